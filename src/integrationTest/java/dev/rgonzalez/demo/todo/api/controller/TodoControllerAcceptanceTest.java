@@ -1,5 +1,6 @@
 package dev.rgonzalez.demo.todo.api.controller;
 
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
 import dev.rgonzalez.demo.todo.model.Priority;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,9 +9,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
@@ -18,6 +25,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -59,6 +67,54 @@ class TodoControllerAcceptanceTest {
                 .andExpect(jsonPath("$.content", hasSize(7)));
     }
 
+    @Test
+    void shouldFindTheRequestedPageOfTodosWithoutTotals() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/todos")
+                        .param("page", "1")
+                        .param("size", "5")
+                        .param("totals", "false"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.totalElements").isEmpty())
+                .andExpect(jsonPath("$.totalPages").isEmpty())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    void shouldFindTheFirstPageOfTodosByCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/todos")
+                        .param("after", "")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.size").value(5))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty())
+                .andExpect(jsonPath("$.content", hasSize(5)));
+    }
+
+    @Test
+    void shouldFindTheLastPageOfTodosByCursor() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/todos")
+                        .param("after", CursorPageRequest.encodeCursor(6))
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.nextCursor").isEmpty())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    void shouldReturn400WhenSearchingWithABlankQuery() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/todos/search")
+                        .param("q", " ")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void shouldFindTodoById() throws Exception {
         // Given
@@ -192,4 +248,134 @@ class TodoControllerAcceptanceTest {
                 .andExpect(jsonPath("$.message").value("Todo not found"));
     }
 
+    @Test
+    void shouldCreateAllTodosReportingInvalidOnes() throws Exception {
+        // Given
+        String batchCreateTodoRequest = """
+                { "todos": [
+                    { "description": "First batch todo", "priority": "LOW" },
+                    { "description": "" },
+                    { "description": "Second batch todo" }
+                ] }
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchCreateTodoRequest)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results", hasSize(3)))
+                .andExpect(jsonPath("$.results[0].result.description").value("First batch todo"))
+                .andExpect(jsonPath("$.results[1].error").value("Description is required."))
+                .andExpect(jsonPath("$.results[2].result.description").value("Second batch todo"));
+    }
+
+    @Test
+    void shouldUpdateAllTodosReportingMissingOnes() throws Exception {
+        // Given
+        String batchUpdateTodoRequest = """
+                { "todos": [
+                    { "id": 1, "completed": true },
+                    { "id": 99, "description": "Missing todo" }
+                ] }
+                """;
+
+        // When & Then
+        mockMvc.perform(patch("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batchUpdateTodoRequest)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].result.completed").value(true))
+                .andExpect(jsonPath("$.results[1].error").value("Todo not found"));
+    }
+
+    @Test
+    void shouldRejectABatchLargerThanTheMaximumSize() throws Exception {
+        // Given
+        String ids = IntStream.rangeClosed(1, 501)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        // When & Then
+        mockMvc.perform(delete("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{ \"ids\": [" + ids + "] }")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void shouldDeleteAllTodosReportingMissingOnes() throws Exception {
+        // When & Then
+        mockMvc.perform(delete("/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                { "ids": [2, 99] }
+                                """)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].result").value(2))
+                .andExpect(jsonPath("$.results[1].error").value("Todo not found"));
+    }
+
+    @Test
+    void shouldExportAllTodosAsAJsonArray() throws Exception {
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/todos/export").accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$", hasSize(7)))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[6].id").value(20));
+    }
+
+    @Test
+    void shouldExportAllTodosAsNdjson() throws Exception {
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/todos/export").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(body.lines()).hasSize(7)
+                .allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+    }
+
+    @Test
+    void shouldExportAllTodosAsCsv() throws Exception {
+        // When
+        MvcResult mvcResult = mockMvc.perform(get("/todos/export").accept("text/csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        assertThat(body.lines()).hasSize(8)
+                .first().isEqualTo("id,description,priority,dueDate,completed,createdAt,completedAt");
+        assertThat(body).contains("1,Task AAA,LOW,2024-12-01,false,");
+    }
 }
@@ -3,12 +3,16 @@ package dev.rgonzalez.demo.todo.api.controller;
 import dev.rgonzalez.demo.todo.api.converter.TodoDTOConverter;
 import dev.rgonzalez.demo.todo.api.domain.CreateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
+import dev.rgonzalez.demo.todo.api.export.TodoExportWriter;
 import dev.rgonzalez.demo.todo.api.domain.UpdateTodoRequest;
 import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.exceptions.PreconditionFailedException;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.service.TodoService;
 import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
 import org.junit.jupiter.api.Test;
@@ -16,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -26,6 +31,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -51,6 +57,9 @@ class TodoControllerIntegrationTest {
     @MockBean
     private TodoDTOConverter converter;
 
+    @MockBean
+    private TodoExportWriter exportWriter;
+
     @Test
     void shouldFindTheRequestedPageOfTodos() throws Exception {
         // Given
@@ -59,7 +68,7 @@ class TodoControllerIntegrationTest {
         int totalElements = 150;
         PagedResult<Todo> todoPagedResult = TodoTestFactory.createPagedResultOfTodos(page, size, totalElements);
         PagedResult<TodoDTO> todoDTOPagedResult = TodoTestFactory.createPagedResultOfTodoDTOs(page, size, totalElements);
-        when(todoService.findAll(any(PageRequest.class))).thenReturn(todoPagedResult);
+        when(todoService.findAll(any(TodoFilter.class), any(PageRequest.class))).thenReturn(todoPagedResult);
         when(converter.toDTO(todoPagedResult)).thenReturn(todoDTOPagedResult);
 
         // When
@@ -77,13 +86,65 @@ class TodoControllerIntegrationTest {
 
         // Then
         ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
-        verify(todoService).findAll(pageRequestCaptor.capture());
+        verify(todoService).findAll(any(TodoFilter.class), pageRequestCaptor.capture());
         PageRequest pageRequest = pageRequestCaptor.getValue();
         assertThat(pageRequest.getPage()).isEqualTo(page);
         assertThat(pageRequest.getSize()).isEqualTo(size);
         verify(converter).toDTO(todoPagedResult);
     }
 
+    @Test
+    void shouldSearchTodos() throws Exception {
+        // Given
+        PagedResult<Todo> todoPagedResult = TodoTestFactory.createPagedResultOfTodos(0, 20, 5);
+        PagedResult<TodoDTO> todoDTOPagedResult = TodoTestFactory.createPagedResultOfTodoDTOs(0, 20, 5);
+        when(todoService.search(eq("task"), any(PageRequest.class))).thenReturn(todoPagedResult);
+        when(converter.toDTO(todoPagedResult)).thenReturn(todoDTOPagedResult);
+
+        // When
+        mockMvc.perform(get("/todos/search")
+                        .param("q", "task"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.content", hasSize(5)));
+
+        // Then
+        verify(todoService).search(eq("task"), any(PageRequest.class));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenSearchQueryIsMissing() throws Exception {
+        // When
+        mockMvc.perform(get("/todos/search"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        verify(todoService, never()).search(any(), any());
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenDueDateRangeIsInverted() throws Exception {
+        // When
+        mockMvc.perform(get("/todos")
+                        .param("dueFrom", "2024-06-01")
+                        .param("dueTo", "2024-05-01"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        verify(todoService, never()).findAll(any(TodoFilter.class), any(PageRequest.class));
+    }
+
+    @Test
+    void shouldReturnBadRequestWhenCursorIsMalformed() throws Exception {
+        // When
+        mockMvc.perform(get("/todos")
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        // Then
+        verify(todoService, never()).findAll(any(CursorPageRequest.class));
+    }
+
     @Test
     void shouldFindTheFirstPageOfTodos() throws Exception {
         // Given
@@ -92,7 +153,7 @@ class TodoControllerIntegrationTest {
         int totalElements = 5;
         PagedResult<Todo> todoPagedResult = TodoTestFactory.createPagedResultOfTodos(page, size, totalElements);
         PagedResult<TodoDTO> todoDTOPagedResult = TodoTestFactory.createPagedResultOfTodoDTOs(page, size, totalElements);
-        when(todoService.findAll(any(PageRequest.class))).thenReturn(todoPagedResult);
+        when(todoService.findAll(any(TodoFilter.class), any(PageRequest.class))).thenReturn(todoPagedResult);
         when(converter.toDTO(todoPagedResult)).thenReturn(todoDTOPagedResult);
 
         // When
@@ -107,19 +168,42 @@ class TodoControllerIntegrationTest {
 
         // Then
         ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
-        verify(todoService).findAll(pageRequestCaptor.capture());
+        verify(todoService).findAll(any(TodoFilter.class), pageRequestCaptor.capture());
         PageRequest pageRequest = pageRequestCaptor.getValue();
         assertThat(pageRequest.getPage()).isEqualTo(page);
         assertThat(pageRequest.getSize()).isEqualTo(size);
         verify(converter).toDTO(todoPagedResult);
     }
 
+    @Test
+    void shouldFindAFilteredPageOfTodos() throws Exception {
+        // Given
+        PagedResult<Todo> todoPagedResult = TodoTestFactory.createPagedResultOfTodos(0, 20, 5);
+        PagedResult<TodoDTO> todoDTOPagedResult = TodoTestFactory.createPagedResultOfTodoDTOs(0, 20, 5);
+        when(todoService.findAll(any(TodoFilter.class), any(PageRequest.class))).thenReturn(todoPagedResult);
+        when(converter.toDTO(todoPagedResult)).thenReturn(todoDTOPagedResult);
+
+        // When
+        mockMvc.perform(get("/todos")
+                        .param("completed", "false")
+                        .param("priority", "HIGH")
+                        .param("dueFrom", "2024-05-01")
+                        .param("dueTo", "2024-05-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)));
+
+        // Then
+        TodoFilter expectedFilter = TodoFilter.of(false, Priority.HIGH,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31));
+        verify(todoService).findAll(eq(expectedFilter), any(PageRequest.class));
+    }
+
     @Test
     void shouldFindTodoById() throws Exception {
         // Given
         Integer id = 10;
         Todo todo = new Todo(10, "My Task ID 10", Priority.MEDIUM,
-                LocalDate.of(2024, 5, 18), false, LocalDateTime.now(), null);
+                LocalDate.of(2024, 5, 18), false, LocalDateTime.now(), null, null, 1L);
         TodoDTO todoDTO = new TodoDTO(10, "My Task ID 10", Priority.MEDIUM,
                 LocalDate.of(2024, 5, 18), false, LocalDateTime.now(), null);
         when(todoService.findById(id)).thenReturn(Optional.of(todo));
@@ -140,6 +224,57 @@ class TodoControllerIntegrationTest {
         verify(converter).toDTO(todo);
     }
 
+    @Test
+    void shouldReturnETagAndLastModifiedWhenFindingTodoById() throws Exception {
+        // Given
+        Integer id = 10;
+        Todo todo = new Todo(10, "My Task ID 10", Priority.MEDIUM, null, false,
+                LocalDateTime.of(2024, 5, 10, 9, 0), null, LocalDateTime.of(2024, 5, 12, 18, 30), 3L);
+        when(todoService.findById(id)).thenReturn(Optional.of(todo));
+
+        // When
+        mockMvc.perform(get("/todos/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Sun, 12 May 2024 18:30:00 GMT"));
+
+        // Then
+        verify(todoService).findById(id);
+    }
+
+    @Test
+    void shouldReturn304WhenTodoETagMatches() throws Exception {
+        // Given
+        Integer id = 10;
+        Todo todo = new Todo(10, "My Task ID 10", Priority.MEDIUM, null, false,
+                LocalDateTime.now(), null, LocalDateTime.now(), 3L);
+        when(todoService.findById(id)).thenReturn(Optional.of(todo));
+
+        // When
+        mockMvc.perform(get("/todos/{id}", id)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // Then
+        verify(todoService).findById(id);
+    }
+
+    @Test
+    void shouldReturn304WithoutQueryingWhenTodosHaveNotChanged() throws Exception {
+        // Given
+        when(todoService.changeCount()).thenReturn(42L);
+
+        // When
+        mockMvc.perform(get("/todos")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"42\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"42\""));
+
+        // Then
+        verify(todoService, never()).findAll(any(TodoFilter.class), any(PageRequest.class));
+    }
+
     @Test
     void shouldReturn404WhenFindingANonExistingTodo() throws Exception {
         // Given
@@ -241,9 +376,9 @@ class TodoControllerIntegrationTest {
                 """;
         UpdateTodoRequest request = new UpdateTodoRequest(description, null, null, true);
         Todo todoToBeUpdated = new Todo(id, description, Priority.MEDIUM,
-                dueDate, true, createdAt, null);
+                dueDate, true, createdAt, null, null, 1L);
         Todo updatedTodo = new Todo(id, description, Priority.MEDIUM,
-                dueDate, true, createdAt, completedAt);
+                dueDate, true, createdAt, completedAt, null, 1L);
         TodoDTO todoDTO = new TodoDTO(id, description, Priority.MEDIUM,
                 dueDate, true, createdAt, completedAt);
         when(converter.toModel(id, request)).thenReturn(todoToBeUpdated);
@@ -282,7 +417,7 @@ class TodoControllerIntegrationTest {
                 """;
         UpdateTodoRequest request = new UpdateTodoRequest(description, null, null, true);
         Todo todoToBeUpdated = new Todo(id, description, Priority.MEDIUM,
-                dueDate, true, createdAt, null);
+                dueDate, true, createdAt, null, null, 1L);
 
         when(converter.toModel(id, request)).thenReturn(todoToBeUpdated);
         doThrow(new NotFoundException("Todo not found")).when(todoService).update(todoToBeUpdated);
@@ -300,11 +435,53 @@ class TodoControllerIntegrationTest {
         verify(todoService).update(todoToBeUpdated);
     }
 
+    @Test
+    void shouldReturn412WhenUpdatingWithAStaleVersion() throws Exception {
+        // Given
+        Integer id = 14;
+        String description = "Todo to be updated";
+        String updateTodoRequest = """
+                { "description": "Todo to be updated" }
+                """;
+        UpdateTodoRequest request = new UpdateTodoRequest(description, null, null, null);
+        Todo todoToBeUpdated = Todo.builder().id(id).description(description).build();
+        when(converter.toModel(id, request)).thenReturn(todoToBeUpdated);
+        doThrow(new PreconditionFailedException("Todo has been modified")).when(todoService).update(todoToBeUpdated);
+
+        // When
+        mockMvc.perform(patch("/todos/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(updateTodoRequest)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value("Todo has been modified"));
+
+        // Then
+        assertThat(todoToBeUpdated.getVersion()).isEqualTo(2L);
+        verify(todoService).update(todoToBeUpdated);
+    }
+
+    @Test
+    void shouldDeleteTodoWhenIfMatchVersionIsCurrent() throws Exception {
+        // Given
+        Integer id = 11;
+        doNothing().when(todoService).deleteById(id, 4L);
+
+        // When
+        mockMvc.perform(delete("/todos/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"4\""))
+                .andExpect(status().is(204));
+
+        // Then
+        verify(todoService).deleteById(id, 4L);
+    }
+
     @Test
     void shouldDeleteTodo() throws Exception {
         // Given
         Integer id = 11;
-        doNothing().when(todoService).deleteById(id);
+        doNothing().when(todoService).deleteById(id, null);
 
         // When
         mockMvc.perform(delete("/todos/{id}", id)
@@ -313,14 +490,14 @@ class TodoControllerIntegrationTest {
                 .andExpect(jsonPath("$").doesNotExist());
 
         // Then
-        verify(todoService).deleteById(id);
+        verify(todoService).deleteById(id, null);
     }
 
     @Test
     void shouldReturn404WhenDeletingNonExistingTodo() throws Exception {
         // Given
         Integer id = 13;
-        doThrow(new NotFoundException("Todo not found")).when(todoService).deleteById(id);
+        doThrow(new NotFoundException("Todo not found")).when(todoService).deleteById(id, null);
 
         // When
         mockMvc.perform(delete("/todos/{id}", id)
@@ -330,7 +507,7 @@ class TodoControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Todo not found"));
 
         // Then
-        verify(todoService).deleteById(id);
+        verify(todoService).deleteById(id, null);
     }
 
 
@@ -0,0 +1,107 @@
+package dev.rgonzalez.demo.todo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.rgonzalez.demo.todo.repository.StatementCachingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = {AppConfig.class, DataSourceConfig.class, SimpleMeterRegistry.class})
+class DataSourceConfigIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("writerDataSource")
+    private HikariDataSource writerDataSource;
+
+    @Autowired
+    @Qualifier("readerDataSource")
+    private HikariDataSource readerDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private JdbcClient jdbcClient;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcClient = JdbcClient.create(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void shouldUseReaderPoolForReadOnlyTransactions() {
+        // Given
+        transactionTemplate.setReadOnly(true);
+
+        // When
+        Integer queryOnly = transactionTemplate.execute(status ->
+                jdbcClient.sql("PRAGMA query_only").query(Integer.class).single());
+
+        // Then
+        assertThat(queryOnly).isEqualTo(1);
+    }
+
+    @Test
+    void shouldUseWriterPoolForReadWriteTransactions() {
+        // Given
+        transactionTemplate.setReadOnly(false);
+
+        // When
+        Integer queryOnly = transactionTemplate.execute(status ->
+                jdbcClient.sql("PRAGMA query_only").query(Integer.class).single());
+
+        // Then
+        assertThat(queryOnly).isZero();
+    }
+
+    @Test
+    void shouldEnableWriteAheadLogging() {
+        // When
+        String journalMode = jdbcClient.sql("PRAGMA journal_mode").query(String.class).single();
+
+        // Then
+        assertThat(journalMode).isEqualToIgnoringCase("wal");
+    }
+
+    @Test
+    void shouldLimitWriterPoolToASingleConnection() {
+        // Then
+        assertThat(writerDataSource.getMaximumPoolSize()).isEqualTo(1);
+        assertThat(readerDataSource.getMaximumPoolSize()).isGreaterThan(1);
+    }
+
+    @Test
+    void shouldReuseStatementsOnTheWriterConnection() {
+        // Given
+        jdbcClient.sql("SELECT :value").param("value", 1).query(Integer.class).single();
+
+        // When
+        Integer value = jdbcClient.sql("SELECT :value").param("value", 2).query(Integer.class).single();
+
+        // Then
+        assertThat(value).isEqualTo(2);
+        assertThat(writerDataSource.getDataSource()).isInstanceOf(StatementCachingDataSource.class);
+        assertThat(meterRegistry.get(StatementCachingDataSource.STATEMENT_CACHE_METRIC)
+                .tag("pool", DataSourceConfig.WRITER_POOL_NAME)
+                .tag("result", "hit")
+                .counter()
+                .count()).isGreaterThanOrEqualTo(1);
+    }
+
+}
@@ -0,0 +1,41 @@
+package dev.rgonzalez.demo.todo.config;
+
+import dev.rgonzalez.demo.todo.service.TodoService;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class MetricsConfigIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldStartWithTheTimedAspect() {
+        // When & Then
+        assertThat(applicationContext.getBeansOfType(TimedAspect.class)).hasSize(1);
+    }
+
+    @Test
+    void shouldTimeServiceAndRepositoryCalls() {
+        // When
+        todoService.changeCount();
+
+        // Then
+        assertThat(meterRegistry.get("todo.service").tag("method", "changeCount").timer().count()).isPositive();
+        assertThat(meterRegistry.get("todo.repository").tag("method", "changeCount").timer().count()).isPositive();
+    }
+
+}
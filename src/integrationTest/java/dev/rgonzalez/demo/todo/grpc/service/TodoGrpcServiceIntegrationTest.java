@@ -1,14 +1,24 @@
 package dev.rgonzalez.demo.todo.grpc.service;
 
 import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.grpc.service.observer.ImportSummaryObserver;
 import dev.rgonzalez.demo.todo.grpc.service.observer.ListTodoResponseObserver;
+import dev.rgonzalez.proto.todo.client.todo.BatchCreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchDeleteTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
 import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.DeleteTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ExportTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ExportTodoResponse;
 import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ImportSummary;
 import dev.rgonzalez.proto.todo.client.todo.ListTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.SearchTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.TodoFilter;
 import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
 import dev.rgonzalez.proto.todo.client.todo.UpdateTodoRequest;
+import dev.rgonzalez.proto.todo.common.messages.CursorRequest;
 import dev.rgonzalez.proto.todo.common.messages.Date;
 import dev.rgonzalez.proto.todo.common.messages.PageRequest;
 import dev.rgonzalez.proto.todo.common.messages.PageResponse;
@@ -17,6 +27,7 @@ import io.grpc.ManagedChannel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +37,11 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -84,6 +99,76 @@ class TodoGrpcServiceIntegrationTest {
         assertThat(pageResponse.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    void shouldGetAFilteredListOfTodos() {
+        // Given
+        PageRequest pageRequest = PageRequest.newBuilder().setPage(0).setSize(5).build();
+        TodoFilter filter = TodoFilter.newBuilder().setPriority(PRIORITY_LOW).build();
+        ListTodoRequest request = ListTodoRequest.newBuilder()
+                .setPageRequest(pageRequest)
+                .setFilter(filter)
+                .build();
+
+        // When
+        ListTodoResponse response = blockingStub.list(request);
+
+        // Then
+        assertThat(response.getTodosList()).extracting(Todo::getId).containsExactly(1, 2);
+        assertThat(response.getPageResponse().getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionWhenDueDateRangeIsInverted() {
+        // Given
+        PageRequest pageRequest = PageRequest.newBuilder().setPage(0).setSize(5).build();
+        TodoFilter filter = TodoFilter.newBuilder()
+                .setDueFrom(Date.newBuilder().setYear(2024).setMonth(6).setDay(1).build())
+                .setDueTo(Date.newBuilder().setYear(2024).setMonth(5).setDay(1).build())
+                .build();
+        ListTodoRequest request = ListTodoRequest.newBuilder()
+                .setPageRequest(pageRequest)
+                .setFilter(filter)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> blockingStub.list(request))
+                .hasMessage("INVALID_ARGUMENT: Due date range start cannot be after its end")
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> (StatusRuntimeException) e)
+                .extracting(sre -> sre.getStatus().getCode()).isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    }
+
+    @Test
+    void shouldSearchTodos() {
+        // Given
+        PageRequest pageRequest = PageRequest.newBuilder().setPage(0).setSize(5).build();
+        SearchTodoRequest request = SearchTodoRequest.newBuilder()
+                .setQuery("completed")
+                .setPageRequest(pageRequest)
+                .build();
+
+        // When
+        ListTodoResponse response = blockingStub.search(request);
+
+        // Then
+        assertThat(response.getTodosList()).extracting(Todo::getId).containsExactly(20);
+        assertThat(response.getPageResponse().getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionWhenSearchingWithoutQuery() {
+        // Given
+        PageRequest pageRequest = PageRequest.newBuilder().setPage(0).setSize(5).build();
+        SearchTodoRequest request = SearchTodoRequest.newBuilder().setPageRequest(pageRequest).build();
+
+        // When & Then
+        assertThatThrownBy(() -> blockingStub.search(request))
+                .hasMessage("INVALID_ARGUMENT: Search query is required.")
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> (StatusRuntimeException) e)
+                .extracting(sre -> sre.getStatus().getCode()).isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    }
+
     @Test
     void shouldGetAListOfTodosUsingAsynchronousCall() {
         // Given
@@ -111,6 +196,26 @@ class TodoGrpcServiceIntegrationTest {
         assertThat(pageResponse.getTotalPages()).isEqualTo(2);
     }
 
+    @Test
+    void shouldGetAllTodosFollowingCursors() {
+        // Given
+        CursorRequest firstPage = CursorRequest.newBuilder().setSize(5).build();
+
+        // When
+        ListTodoResponse firstResponse = blockingStub.list(ListTodoRequest.newBuilder().setCursorRequest(firstPage).build());
+        CursorRequest secondPage = CursorRequest.newBuilder()
+                .setAfter(firstResponse.getCursorResponse().getNextCursor())
+                .setSize(5)
+                .build();
+        ListTodoResponse secondResponse = blockingStub.list(ListTodoRequest.newBuilder().setCursorRequest(secondPage).build());
+
+        // Then
+        assertThat(firstResponse.getTodosList()).hasSize(5);
+        assertThat(firstResponse.getCursorResponse().getNextCursor()).isNotEmpty();
+        assertThat(secondResponse.getTodosList()).hasSize(2);
+        assertThat(secondResponse.getCursorResponse().getNextCursor()).isEmpty();
+    }
+
     @Test
     void shouldGetTodoById() {
         // Given
@@ -281,4 +386,99 @@ class TodoGrpcServiceIntegrationTest {
                 .extracting(sre -> sre.getStatus().getCode()).isEqualTo(Status.NOT_FOUND.getCode());
     }
 
+    @Test
+    void shouldBatchCreateTodos() {
+        // Given
+        BatchCreateTodoRequest request = BatchCreateTodoRequest.newBuilder()
+                .addTodos(CreateTodoRequest.newBuilder().setDescription("Batch todo A").setPriority(PRIORITY_HIGH))
+                .addTodos(CreateTodoRequest.newBuilder().setDescription(""))
+                .addTodos(CreateTodoRequest.newBuilder().setDescription("Batch todo B"))
+                .build();
+
+        // When
+        var response = blockingStub.batchCreate(request);
+
+        // Then
+        assertThat(response.getResultsList()).hasSize(3);
+        BatchTodoResult first = response.getResults(0);
+        assertThat(first.getIndex()).isZero();
+        assertThat(first.getTodo().getId()).isPositive();
+        assertThat(first.getTodo().getPriority()).isEqualTo(PRIORITY_HIGH);
+        assertThat(response.getResults(1).getResultCase()).isEqualTo(BatchTodoResult.ResultCase.ERROR);
+        assertThat(response.getResults(1).getError()).isEqualTo("Description is required.");
+        assertThat(response.getResults(2).getTodo().getDescription()).isEqualTo("Batch todo B");
+    }
+
+    @Test
+    void shouldBatchDeleteTodos() {
+        // Given
+        BatchDeleteTodoRequest request = BatchDeleteTodoRequest.newBuilder()
+                .addIds(3)
+                .addIds(99)
+                .build();
+
+        // When
+        var response = blockingStub.batchDelete(request);
+
+        // Then
+        assertThat(response.getResultsList()).hasSize(2);
+        assertThat(response.getResults(0).getId()).isEqualTo(3);
+        assertThat(response.getResults(0).hasError()).isFalse();
+        assertThat(response.getResults(1).getId()).isEqualTo(99);
+        assertThat(response.getResults(1).getError()).isEqualTo("Todo not found");
+    }
+
+    @Test
+    void shouldThrowInvalidArgumentExceptionWhenBatchIsTooLarge() {
+        // Given
+        BatchDeleteTodoRequest request = BatchDeleteTodoRequest.newBuilder()
+                .addAllIds(IntStream.rangeClosed(1, appProperties.getBatchMaxSize() + 1).boxed().toList())
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> blockingStub.batchDelete(request))
+                .isInstanceOf(StatusRuntimeException.class)
+                .extracting(e -> (StatusRuntimeException) e)
+                .extracting(sre -> sre.getStatus().getCode()).isEqualTo(Status.INVALID_ARGUMENT.getCode());
+    }
+
+    @Test
+    void shouldImportAStreamOfTodos() {
+        // Given
+        ImportSummaryObserver responseObserver = new ImportSummaryObserver();
+        StreamObserver<CreateTodoRequest> requestObserver = asyncStub.importTodos(responseObserver);
+
+        // When
+        for (int i = 0; i < 1200; i++) {
+            requestObserver.onNext(CreateTodoRequest.newBuilder().setDescription("Imported todo " + i).build());
+        }
+        requestObserver.onNext(CreateTodoRequest.newBuilder().setDescription("").build());
+        requestObserver.onCompleted();
+        Awaitility.await()
+                .atMost(Duration.ofSeconds(30))
+                .until(() -> responseObserver.isCompleted() || responseObserver.hasError());
+
+        // Then
+        assertThat(responseObserver.hasError()).isFalse();
+        ImportSummary summary = responseObserver.getImportSummary();
+        assertThat(summary.getReceived()).isEqualTo(1201);
+        assertThat(summary.getImported()).isEqualTo(1200);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getRejections(0).getIndex()).isEqualTo(1200);
+        ListTodoResponse response = blockingStub.list(ListTodoRequest.newBuilder()
+                .setPageRequest(PageRequest.newBuilder().setPage(0).setSize(1))
+                .build());
+        assertThat(response.getPageResponse().getTotalElements()).isEqualTo(1207);
+    }
+
+    @Test
+    void shouldExportAllTodosAsAStream() {
+        // When
+        Iterator<ExportTodoResponse> responses = blockingStub.export(ExportTodoRequest.newBuilder().build());
+        List<Integer> ids = new ArrayList<>();
+        responses.forEachRemaining(response -> ids.add(response.getTodo().getId()));
+
+        // Then
+        assertThat(ids).containsExactly(1, 2, 3, 5, 6, 7, 20);
+    }
 }
@@ -0,0 +1,43 @@
+package dev.rgonzalez.demo.todo.grpc.service.observer;
+
+import dev.rgonzalez.proto.todo.client.todo.ImportSummary;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Objects;
+
+public class ImportSummaryObserver implements StreamObserver<ImportSummary> {
+    private boolean completed = false;
+    private Throwable error;
+    private ImportSummary importSummary;
+
+    @Override
+    public void onNext(ImportSummary importSummary) {
+        this.importSummary = importSummary;
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        this.error = throwable;
+    }
+
+    @Override
+    public void onCompleted() {
+        completed = true;
+    }
+
+    public ImportSummary getImportSummary() {
+        return importSummary;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public boolean hasError() {
+        return Objects.nonNull(error);
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+}
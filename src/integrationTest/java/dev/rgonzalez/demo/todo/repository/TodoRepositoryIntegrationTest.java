@@ -1,10 +1,15 @@
 package dev.rgonzalez.demo.todo.repository;
 
 import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.exceptions.PreconditionFailedException;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,8 +18,11 @@ import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,7 +36,7 @@ class TodoRepositoryIntegrationTest {
 
     @BeforeEach
     void setup() {
-        todoRepository = new TodoRepository(jdbcClient);
+        todoRepository = new TodoRepository(jdbcClient, new SimpleMeterRegistry());
     }
 
     @Test
@@ -51,7 +59,7 @@ class TodoRepositoryIntegrationTest {
         assertThat(createdTodo.getDueDate()).isEqualTo(todo.getDueDate());
         assertThat(createdTodo.getCreatedAt()).isNotNull();
         assertThat(createdTodo.getCompletedAt()).isNull();
-        assertThat(createdTodo.isCompleted()).isFalse();
+        assertThat(createdTodo.getCompleted()).isFalse();
     }
 
     @Test
@@ -69,7 +77,7 @@ class TodoRepositoryIntegrationTest {
         assertThat(todo.getDescription()).isEqualTo("Task EEE");
         assertThat(todo.getPriority()).isEqualTo(Priority.MEDIUM);
         assertThat(todo.getDueDate()).isNull();
-        assertThat(todo.isCompleted()).isFalse();
+        assertThat(todo.getCompleted()).isFalse();
         assertThat(todo.getCompletedAt()).isNull();
         assertThat(todo.getCreatedAt()).isNotNull();
     }
@@ -103,7 +111,7 @@ class TodoRepositoryIntegrationTest {
         assertThat(updatedTodo.getId()).isEqualTo(id);
         assertThat(updatedTodo.getPriority()).isEqualTo(Priority.MEDIUM);
         assertThat(updatedTodo.getDueDate()).isNull();
-        assertThat(updatedTodo.isCompleted()).isTrue();
+        assertThat(updatedTodo.getCompleted()).isTrue();
         assertThat(updatedTodo.getCreatedAt()).isNotNull();
         assertThat(updatedTodo.getCompletedAt()).isNotNull();
         assertThat(updatedTodo.getDescription()).isEqualTo("Task EEE");
@@ -125,7 +133,7 @@ class TodoRepositoryIntegrationTest {
         // Then
         assertThat(updatedTodo).isNotNull();
         assertThat(updatedTodo.getId()).isEqualTo(id);
-        assertThat(updatedTodo.isCompleted()).isFalse();
+        assertThat(updatedTodo.getCompleted()).isFalse();
         assertThat(updatedTodo.getPriority()).isEqualTo(Priority.MEDIUM);
         assertThat(updatedTodo.getDueDate()).isEqualTo(LocalDate.of(2024, 5, 15));
         assertThat(updatedTodo.getCompletedAt()).isNull();
@@ -133,6 +141,43 @@ class TodoRepositoryIntegrationTest {
         assertThat(updatedTodo.getCreatedAt()).isNotNull();
     }
 
+    @Test
+    void shouldKeepTheCompletionWhenCompletedIsNotSent() {
+        // Given
+        Integer id = 20;
+        Todo completedTodo = todoRepository.findById(id).orElseThrow();
+        Todo todoToBeUpdated = Todo.builder()
+                .id(id)
+                .description("A renamed completed task")
+                .build();
+
+        // When
+        Todo updatedTodo = todoRepository.update(todoToBeUpdated);
+
+        // Then
+        assertThat(updatedTodo.getCompleted()).isTrue();
+        assertThat(updatedTodo.getCompletedAt()).isEqualTo(completedTodo.getCompletedAt());
+        assertThat(updatedTodo.getDescription()).isEqualTo(todoToBeUpdated.getDescription());
+    }
+
+    @Test
+    void shouldKeepTheCompletionTimeWhenCompletingACompletedTodo() {
+        // Given
+        Integer id = 20;
+        Todo completedTodo = todoRepository.findById(id).orElseThrow();
+        Todo todoToBeUpdated = Todo.builder()
+                .id(id)
+                .completed(true)
+                .build();
+
+        // When
+        Todo updatedTodo = todoRepository.update(todoToBeUpdated);
+
+        // Then
+        assertThat(updatedTodo.getCompleted()).isTrue();
+        assertThat(updatedTodo.getCompletedAt()).isEqualTo(completedTodo.getCompletedAt());
+    }
+
     @Test
     void shouldUpdatePriority() {
         Integer id = 5;
@@ -149,7 +194,7 @@ class TodoRepositoryIntegrationTest {
         assertThat(updatedTodo.getId()).isEqualTo(id);
         assertThat(updatedTodo.getPriority()).isEqualTo(Priority.MEDIUM);
         assertThat(updatedTodo.getDueDate()).isEqualTo(LocalDate.of(2024, 8, 10));
-        assertThat(updatedTodo.isCompleted()).isFalse();
+        assertThat(updatedTodo.getCompleted()).isFalse();
         assertThat(updatedTodo.getCompletedAt()).isNull();
         assertThat(updatedTodo.getDescription()).isEqualTo("Task DDD");
         assertThat(updatedTodo.getCreatedAt()).isNotNull();
@@ -171,7 +216,7 @@ class TodoRepositoryIntegrationTest {
         assertThat(updatedTodo).isNotNull();
         assertThat(updatedTodo.getId()).isEqualTo(id);
         assertThat(updatedTodo.getPriority()).isEqualTo(Priority.MEDIUM);
-        assertThat(updatedTodo.isCompleted()).isFalse();
+        assertThat(updatedTodo.getCompleted()).isFalse();
         assertThat(updatedTodo.getCompletedAt()).isNull();
         assertThat(updatedTodo.getDescription()).isEqualTo("Task CCC");
         assertThat(updatedTodo.getDueDate()).isEqualTo(dueDate);
@@ -193,6 +238,59 @@ class TodoRepositoryIntegrationTest {
                 .hasMessage("Todo not found");
     }
 
+    @Test
+    void shouldIncrementVersionAndChangeCountOnUpdate() {
+        // Given
+        Integer id = 6;
+        Todo currentTodo = todoRepository.findById(id).orElseThrow();
+        long changeCount = todoRepository.changeCount();
+
+        // When
+        Todo updatedTodo = todoRepository.update(Todo.builder()
+                .id(id)
+                .description("Task EEE v2")
+                .version(currentTodo.getVersion())
+                .build());
+
+        // Then
+        assertThat(updatedTodo.getVersion()).isEqualTo(currentTodo.getVersion() + 1);
+        assertThat(updatedTodo.getUpdatedAt()).isNotNull();
+        assertThat(todoRepository.changeCount()).isGreaterThan(changeCount);
+    }
+
+    @Test
+    void shouldThrowPreconditionFailedExceptionWhenUpdatingWithAStaleVersion() {
+        // Given
+        Integer id = 6;
+        Todo currentTodo = todoRepository.findById(id).orElseThrow();
+        Todo staleTodo = Todo.builder()
+                .id(id)
+                .description("Stale update")
+                .version(currentTodo.getVersion() - 1)
+                .build();
+
+        // When & Then
+        assertThatThrownBy(() -> todoRepository.update(staleTodo))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("Todo has been modified");
+        assertThat(todoRepository.findById(id)).get()
+                .extracting(Todo::getDescription)
+                .isEqualTo("Task EEE");
+    }
+
+    @Test
+    void shouldOnlyDeleteTodoWhenVersionMatches() {
+        // Given
+        Integer id = 3;
+        Long version = todoRepository.findById(id).orElseThrow().getVersion();
+
+        // When & Then
+        assertThatThrownBy(() -> todoRepository.deleteById(id, version + 1))
+                .isInstanceOf(PreconditionFailedException.class);
+        todoRepository.deleteById(id, version);
+        assertThat(todoRepository.findById(id)).isNotPresent();
+    }
+
     @Test
     void shouldDeleteTodoById() {
         // Given
@@ -264,4 +362,259 @@ class TodoRepositoryIntegrationTest {
         assertThat(page.getTotalElements()).isEqualTo(7);
     }
 
+    @Test
+    void shouldReturnPageWithoutTotals() {
+        // Given
+        PageRequest pageRequest = PageRequest.of(1, 5).withoutTotals();
+
+        // When
+        PagedResult<Todo> page = todoRepository.findAll(pageRequest);
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getTotalElements()).isNull();
+        assertThat(page.getTotalPages()).isNull();
+    }
+
+    @Test
+    void shouldReturnCompletedTodos() {
+        // Given
+        TodoFilter filter = TodoFilter.of(true, null, null, null);
+
+        // When
+        PagedResult<Todo> page = todoRepository.findAll(filter, PageRequest.of(0, 5));
+
+        // Then
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(20);
+        assertThat(page.getTotalElements()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReturnTodosByPriorityOrderedByDueDate() {
+        // Given
+        TodoFilter filter = TodoFilter.of(false, Priority.MEDIUM, null, null);
+
+        // When
+        PagedResult<Todo> page = todoRepository.findAll(filter, PageRequest.of(0, 5));
+
+        // Then
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(3, 6);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnTodosWithinADueDateRange() {
+        // Given
+        TodoFilter filter = TodoFilter.of(null, null, LocalDate.of(2024, 8, 1), LocalDate.of(2024, 12, 1));
+
+        // When
+        PagedResult<Todo> page = todoRepository.findAll(filter, PageRequest.of(0, 5).withoutTotals());
+
+        // Then
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(5, 1);
+        assertThat(page.getTotalElements()).isNull();
+    }
+
+    @Test
+    void shouldUseAnIndexForEveryFilter() {
+        // Given
+        List<TodoFilter> filters = List.of(
+                TodoFilter.of(true, null, null, null),
+                TodoFilter.of(null, Priority.HIGH, null, null),
+                TodoFilter.of(null, null, LocalDate.of(2024, 1, 1), null),
+                TodoFilter.of(null, null, null, LocalDate.of(2024, 12, 31)),
+                TodoFilter.of(false, Priority.LOW, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))
+        );
+
+        for (TodoFilter filter : filters) {
+            // When
+            List<String> queryPlan = explainFindAll(filter);
+
+            // Then
+            assertThat(queryPlan)
+                    .anyMatch(detail -> detail.contains("USING INDEX idx_todo_item_"))
+                    .noneMatch(detail -> detail.startsWith("SCAN todo_item"))
+                    .noneMatch(detail -> detail.contains("TEMP B-TREE"));
+        }
+    }
+
+    @Test
+    void shouldCountSingleFilterMatchesFromACoveringIndex() {
+        // Given
+        List<TodoFilter> filters = List.of(
+                TodoFilter.of(true, null, null, null),
+                TodoFilter.of(null, Priority.HIGH, null, null),
+                TodoFilter.of(null, null, LocalDate.of(2024, 1, 1), null)
+        );
+
+        for (TodoFilter filter : filters) {
+            // When
+            List<String> queryPlan = explainCount(filter);
+
+            // Then
+            assertThat(queryPlan).anyMatch(detail -> detail.contains("USING COVERING INDEX idx_todo_item_"));
+        }
+    }
+
+    @Test
+    void shouldSearchTodosByDescription() {
+        // Given
+        todoRepository.create(Todo.builder().description("Buy milk and bread").build());
+        Todo moreRelevantTodo = todoRepository.create(Todo.builder().description("Milk").build());
+
+        // When
+        PagedResult<Todo> page = todoRepository.search("milk", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(page.getContent()).hasSize(2);
+        assertThat(page.getContent().get(0).getId()).isEqualTo(moreRelevantTodo.getId());
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSearchTodosByPrefix() {
+        // When
+        PagedResult<Todo> page = todoRepository.search("task bb", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(2);
+    }
+
+    @Test
+    void shouldKeepSearchIndexInSyncWithUpdatesAndDeletes() {
+        // Given
+        todoRepository.update(Todo.builder().id(3).description("Renamed chore").build());
+        todoRepository.deleteById(5);
+
+        // When
+        PagedResult<Todo> renamed = todoRepository.search("chore", PageRequest.of(0, 5));
+        PagedResult<Todo> previousName = todoRepository.search("CCC", PageRequest.of(0, 5));
+        PagedResult<Todo> deleted = todoRepository.search("DDD", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(renamed.getContent()).extracting(Todo::getId).containsExactly(3);
+        assertThat(previousName.getContent()).isEmpty();
+        assertThat(deleted.getContent()).isEmpty();
+    }
+
+    @Test
+    void shouldKeepSearchIndexWhenTheDescriptionDoesNotChange() {
+        // Given
+        todoRepository.update(Todo.builder().id(3).priority(Priority.HIGH).build());
+
+        // When
+        PagedResult<Todo> page = todoRepository.search("CCC", PageRequest.of(0, 5));
+
+        // Then
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(3);
+    }
+
+    @Test
+    void shouldKeepTotalCountInSyncWithCreatesAndDeletes() {
+        // Given
+        Todo createdTodo = todoRepository.create(Todo.builder().description("Counted task").build());
+
+        // When
+        int countAfterCreate = todoRepository.count();
+        todoRepository.deleteById(createdTodo.getId());
+        todoRepository.deleteById(1);
+        int countAfterDeletes = todoRepository.count();
+
+        // Then
+        assertThat(countAfterCreate).isEqualTo(8);
+        assertThat(countAfterDeletes).isEqualTo(6);
+    }
+
+    @Test
+    void shouldReturnFirstPageByCursor() {
+        // Given
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(null, 5);
+
+        // When
+        CursorPagedResult<Todo> page = todoRepository.findAll(cursorPageRequest);
+
+        // Then
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(1, 2, 3, 5, 6);
+        assertThat(page.getSize()).isEqualTo(5);
+        assertThat(page.getNextCursor()).isEqualTo(CursorPageRequest.encodeCursor(6));
+    }
+
+    @Test
+    void shouldReturnLastPageByCursor() {
+        // Given
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(CursorPageRequest.encodeCursor(6), 5);
+
+        // When
+        CursorPagedResult<Todo> page = todoRepository.findAll(cursorPageRequest);
+
+        // Then
+        assertThat(page).isNotNull();
+        assertThat(page.getContent()).extracting(Todo::getId).containsExactly(7, 20);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldCreateAllTodosInRequestOrder() {
+        // Given
+        List<Todo> todos = List.of(
+                Todo.builder().description("Batch task 1").priority(Priority.HIGH).build(),
+                Todo.builder().description("Batch task 2").dueDate(LocalDate.of(2024, 6, 1)).build(),
+                Todo.builder().description("Batch task 3").build());
+
+        // When
+        List<Todo> createdTodos = todoRepository.createAll(todos);
+
+        // Then
+        assertThat(createdTodos).extracting(Todo::getDescription)
+                .containsExactly("Batch task 1", "Batch task 2", "Batch task 3");
+        assertThat(createdTodos).allSatisfy(todo -> assertThat(todo.getId()).isGreaterThan(20));
+        assertThat(createdTodos.get(0).getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(createdTodos.get(1).getDueDate()).isEqualTo(LocalDate.of(2024, 6, 1));
+        assertThat(todoRepository.count()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDeleteAllExistingTodosById() {
+        // When
+        List<Integer> deletedIds = todoRepository.deleteAllById(List.of(1, 4, 20));
+
+        // Then
+        assertThat(deletedIds).containsExactlyInAnyOrder(1, 20);
+        assertThat(todoRepository.findById(1)).isEmpty();
+        assertThat(todoRepository.findById(20)).isEmpty();
+        assertThat(todoRepository.count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldStreamAllTodosOrderedById() {
+        // When
+        List<Integer> ids;
+        try (Stream<Todo> todos = todoRepository.streamAll()) {
+            ids = todos.map(Todo::getId).toList();
+        }
+
+        // Then
+        assertThat(ids).containsExactly(1, 2, 3, 5, 6, 7, 20);
+    }
+
+    private List<String> explainFindAll(TodoFilter filter) {
+        Map<String, Object> params = new HashMap<>();
+        String sql = todoRepository.toFindAllSql(todoRepository.toWhereClause(filter, params));
+        return jdbcClient.sql("EXPLAIN QUERY PLAN " + sql)
+                .params(params)
+                .param("limit", 20)
+                .param("offset", 0)
+                .query((rs, rowNum) -> rs.getString("detail"))
+                .list();
+    }
+
+    private List<String> explainCount(TodoFilter filter) {
+        Map<String, Object> params = new HashMap<>();
+        String sql = todoRepository.toCountSql(todoRepository.toWhereClause(filter, params));
+        return jdbcClient.sql("EXPLAIN QUERY PLAN " + sql)
+                .params(params)
+                .query((rs, rowNum) -> rs.getString("detail"))
+                .list();
+    }
 }
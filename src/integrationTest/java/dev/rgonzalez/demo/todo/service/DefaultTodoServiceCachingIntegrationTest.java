@@ -0,0 +1,162 @@
+package dev.rgonzalez.demo.todo.service;
+
+import dev.rgonzalez.demo.todo.config.AppConfig;
+import dev.rgonzalez.demo.todo.config.CachingConfig;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = {AppConfig.class, CachingConfig.class, DefaultTodoService.class},
+        properties = "cache.todo.enabled=true")
+class DefaultTodoServiceCachingIntegrationTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private TodoRepository todoRepository;
+
+    @MockBean
+    private GroupCommitWriter groupCommitWriter;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CachingConfig.TODOS_CACHE).clear();
+        when(groupCommitWriter.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(groupCommitWriter).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldReadTodoFromTheRepositoryOnlyOnce() {
+        // Given
+        Todo todo = TodoTestFactory.createTodoList().get(0);
+        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+
+        // When
+        Optional<Todo> firstResult = todoService.findById(todo.getId());
+        Optional<Todo> secondResult = todoService.findById(todo.getId());
+
+        // Then
+        assertThat(firstResult).contains(todo);
+        assertThat(secondResult).contains(todo);
+        verify(todoRepository, times(1)).findById(todo.getId());
+    }
+
+    @Test
+    void shouldNotCacheMissingTodos() {
+        // Given
+        when(todoRepository.findById(99)).thenReturn(Optional.empty());
+
+        // When
+        todoService.findById(99);
+        Optional<Todo> result = todoService.findById(99);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(todoRepository, times(2)).findById(99);
+    }
+
+    @Test
+    void shouldCacheTheUpdatedTodo() {
+        // Given
+        Todo todo = TodoTestFactory.createTodoList().get(0);
+        Todo updatedTodo = Todo.builder().id(todo.getId()).description("Updated description").build();
+        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+        when(todoRepository.update(any(Todo.class))).thenReturn(updatedTodo);
+        todoService.findById(todo.getId());
+
+        // When
+        todoService.update(updatedTodo);
+        Optional<Todo> result = todoService.findById(todo.getId());
+
+        // Then
+        assertThat(result).contains(updatedTodo);
+        verify(todoRepository, times(1)).findById(todo.getId());
+    }
+
+    @Test
+    void shouldEvictTheDeletedTodo() {
+        // Given
+        Todo todo = TodoTestFactory.createTodoList().get(0);
+        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+        todoService.findById(todo.getId());
+
+        // When
+        todoService.deleteById(todo.getId());
+        todoService.findById(todo.getId());
+
+        // Then
+        verify(todoRepository, times(2)).findById(todo.getId());
+    }
+
+    @Test
+    void shouldCacheOnlyTheTodosUpdatedInABatch() {
+        // Given
+        List<Todo> todos = TodoTestFactory.createTodoList();
+        Todo todo = todos.get(0);
+        Todo otherTodo = todos.get(1);
+        Todo updatedTodo = Todo.builder().id(todo.getId()).description("Updated description").build();
+        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+        when(todoRepository.findById(otherTodo.getId())).thenReturn(Optional.of(otherTodo));
+        when(todoRepository.update(updatedTodo)).thenReturn(updatedTodo);
+        todoService.findById(todo.getId());
+        todoService.findById(otherTodo.getId());
+
+        // When
+        todoService.updateAll(List.of(updatedTodo));
+        Optional<Todo> result = todoService.findById(todo.getId());
+        todoService.findById(otherTodo.getId());
+
+        // Then
+        assertThat(result).contains(updatedTodo);
+        verify(todoRepository, times(1)).findById(todo.getId());
+        verify(todoRepository, times(1)).findById(otherTodo.getId());
+    }
+
+    @Test
+    void shouldEvictOnlyTheTodosDeletedInABatch() {
+        // Given
+        List<Todo> todos = TodoTestFactory.createTodoList();
+        Todo todo = todos.get(0);
+        Todo otherTodo = todos.get(1);
+        when(todoRepository.findById(todo.getId())).thenReturn(Optional.of(todo));
+        when(todoRepository.findById(otherTodo.getId())).thenReturn(Optional.of(otherTodo));
+        when(todoRepository.deleteAllById(List.of(todo.getId()))).thenReturn(List.of(todo.getId()));
+        todoService.findById(todo.getId());
+        todoService.findById(otherTodo.getId());
+
+        // When
+        todoService.deleteAllById(List.of(todo.getId()));
+        todoService.findById(todo.getId());
+        todoService.findById(otherTodo.getId());
+
+        // Then
+        verify(todoRepository, times(2)).findById(todo.getId());
+        verify(todoRepository, times(1)).findById(otherTodo.getId());
+    }
+
+}
@@ -0,0 +1,105 @@
+package dev.rgonzalez.demo.todo.api.controller;
+
+import dev.rgonzalez.demo.todo.TodoApiApplication;
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Compares the HTTP request path on Tomcat's platform thread pool against virtual threads. SampleTime reports the
+// latency percentiles (p99) and Throughput the requests per second for each mode.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+public class TodoControllerBenchmark {
+    @Param({"false", "true"})
+    private boolean virtualThreads;
+
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private Path databaseFile;
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String baseUrl;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseFile = Files.createTempFile("todo-benchmark", ".db");
+        String url = "jdbc:sqlite:" + databaseFile;
+        context = new SpringApplicationBuilder(TodoApiApplication.class)
+                .properties(
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=" + url,
+                        "spring.flyway.url=" + url,
+                        "server.port=0",
+                        "grpc.port=0",
+                        "cache.todo.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        for (int i = 1; i <= rows; i++) {
+            todoRepository.create(BenchmarkTodos.createTodo(i));
+        }
+        pages = rows / pageSize;
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/todos";
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        httpClient.close();
+        context.close();
+        Files.deleteIfExists(databaseFile);
+    }
+
+    @Benchmark
+    public String findAll() throws IOException, InterruptedException {
+        int page = ThreadLocalRandom.current().nextInt(pages);
+        return get(baseUrl + "?page=" + page + "&size=" + pageSize);
+    }
+
+    @Benchmark
+    public String findById() throws IOException, InterruptedException {
+        int id = ThreadLocalRandom.current().nextInt(1, rows + 1);
+        return get(baseUrl + "/" + id);
+    }
+
+    private String get(String uri) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri)).GET().build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+}
@@ -0,0 +1,39 @@
+package dev.rgonzalez.demo.todo.api.converter;
+
+import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoDTOConverterBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private TodoDTOConverter todoDTOConverter;
+    private PagedResult<Todo> pagedResult;
+
+    @Setup
+    public void setUp() {
+        todoDTOConverter = new TodoDTOConverter();
+        pagedResult = BenchmarkTodos.createPagedResult(pageSize);
+    }
+
+    @Benchmark
+    public PagedResult<TodoDTO> toDTO() {
+        return todoDTOConverter.toDTO(pagedResult);
+    }
+
+}
@@ -0,0 +1,40 @@
+package dev.rgonzalez.demo.todo.benchmark;
+
+import dev.rgonzalez.demo.todo.model.PageRequest;
+import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.model.Todo;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+public final class BenchmarkTodos {
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private BenchmarkTodos() {
+    }
+
+    public static Todo createTodo(int id) {
+        boolean completed = id % 2 == 0;
+        return new Todo(id,
+                "Benchmark task " + id,
+                PRIORITIES[id % PRIORITIES.length],
+                LocalDate.of(2024, 5, 1).plusDays(id % 30),
+                completed,
+                LocalDateTime.of(2024, 4, 1, 10, 30),
+                completed ? LocalDateTime.of(2024, 4, 2, 18, 0) : null, null, 1L);
+    }
+
+    public static List<Todo> createTodoList(int size) {
+        return IntStream.rangeClosed(1, size)
+                .mapToObj(BenchmarkTodos::createTodo)
+                .toList();
+    }
+
+    public static PagedResult<Todo> createPagedResult(int size) {
+        return new PagedResult<>(createTodoList(size), size * 10, PageRequest.of(1, size));
+    }
+
+}
@@ -0,0 +1,41 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PagedResultProtoConverterBenchmark {
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private PagedResultProtoConverter pagedResultProtoConverter;
+    private PagedResult<Todo> pagedResult;
+
+    @Setup
+    public void setUp() {
+        TodoProtoConverter todoProtoConverter = new TodoProtoConverter(new PriorityProtoConverter(),
+                new DateProtoConverter(), new LocalDateTimeProtoConverter());
+        pagedResultProtoConverter = new PagedResultProtoConverter(todoProtoConverter);
+        pagedResult = BenchmarkTodos.createPagedResult(pageSize);
+    }
+
+    @Benchmark
+    public ListTodoResponse toProto() {
+        return pagedResultProtoConverter.toProto(pagedResult);
+    }
+
+}
@@ -0,0 +1,42 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.model.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoProtoConverterBenchmark {
+    private TodoProtoConverter todoProtoConverter;
+    private Todo todo;
+    private dev.rgonzalez.proto.todo.common.messages.Todo.Builder builder;
+
+    @Setup
+    public void setUp() {
+        todoProtoConverter = new TodoProtoConverter(new PriorityProtoConverter(), new DateProtoConverter(),
+                new LocalDateTimeProtoConverter());
+        todo = BenchmarkTodos.createTodo(2);
+        builder = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+    }
+
+    @Benchmark
+    public dev.rgonzalez.proto.todo.common.messages.Todo toProto() {
+        return todoProtoConverter.toProto(todo);
+    }
+
+    @Benchmark
+    public dev.rgonzalez.proto.todo.common.messages.Todo writeTo() {
+        todoProtoConverter.writeTo(builder.clear(), todo);
+        return builder.build();
+    }
+
+}
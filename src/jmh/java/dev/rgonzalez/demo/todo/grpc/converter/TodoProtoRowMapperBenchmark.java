@@ -0,0 +1,83 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.model.PageRequest;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+// A gRPC List page built through the model and TodoProtoConverter versus straight from the rows. Run with the gc
+// profiler enabled in build.gradle, gc.alloc.rate.norm gives the bytes allocated per page.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoProtoRowMapperBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"20", "500"})
+    private int pageSize;
+
+    private Path databaseFile;
+    private SingleConnectionDataSource dataSource;
+    private TodoRepository todoRepository;
+    private PagedResultProtoConverter pagedResultProtoConverter;
+    private TodoProtoRowMapper todoProtoRowMapper;
+    private PageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseFile = Files.createTempFile("todo-benchmark", ".db");
+        dataSource = new SingleConnectionDataSource("jdbc:sqlite:" + databaseFile, true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        todoRepository = new TodoRepository(JdbcClient.create(dataSource), new SimpleMeterRegistry());
+        todoRepository.createAll(BenchmarkTodos.createTodoList(rows));
+        TodoProtoConverter todoProtoConverter = new TodoProtoConverter(new PriorityProtoConverter(),
+                new DateProtoConverter(), new LocalDateTimeProtoConverter());
+        pagedResultProtoConverter = new PagedResultProtoConverter(todoProtoConverter);
+        todoProtoRowMapper = new TodoProtoRowMapper();
+        pageRequest = PageRequest.of(0, pageSize).withoutTotals();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        dataSource.destroy();
+        Files.deleteIfExists(databaseFile);
+    }
+
+    @Benchmark
+    public ListTodoResponse throughModel() {
+        return pagedResultProtoConverter.toProto(todoRepository.findAll(TodoFilter.none(), pageRequest));
+    }
+
+    @Benchmark
+    public ListTodoResponse directFromRows() {
+        return pagedResultProtoConverter.toListTodoResponse(
+                todoRepository.findAll(TodoFilter.none(), pageRequest, todoProtoRowMapper));
+    }
+
+}
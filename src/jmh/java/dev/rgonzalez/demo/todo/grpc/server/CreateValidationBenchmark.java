@@ -0,0 +1,119 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
+import dev.rgonzalez.proto.todo.common.messages.Todo;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Runs a valid Create call end to end over an in-process channel with each validation setup: the
+// ValidationInterceptor, the AOP proxy running bean validation that it replaced (rebuilt here as it was), and no
+// validation as the floor. The service answers with a fixed todo, so validation is the only difference.
+// Rejections are compared rule against rule in ValidationInterceptorBenchmark.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreateValidationBenchmark {
+    @Param({"interceptor", "aspect", "none"})
+    private String validation;
+
+    private Server server;
+    private ManagedChannel channel;
+    private TodoServiceGrpc.TodoServiceBlockingStub blockingStub;
+    private CreateTodoRequest request;
+
+    public static class StubTodoService extends TodoServiceGrpc.TodoServiceImplBase {
+        private static final CreateTodoResponse RESPONSE = CreateTodoResponse.newBuilder()
+                .setTodo(Todo.newBuilder().setId(1).setDescription("Benchmark task"))
+                .build();
+
+        @Override
+        public void create(CreateTodoRequest request, StreamObserver<CreateTodoResponse> responseObserver) {
+            responseObserver.onNext(RESPONSE);
+            responseObserver.onCompleted();
+        }
+    }
+
+    // The removed TodoGrpcAspect and ValidatorService, reduced to the create path
+    @Aspect
+    public static class CreateValidationAspect {
+        private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        @Before(value = "execution(public void create(..)) && args(request, ..)", argNames = "request")
+        public void beforeCreateTodoRequest(CreateTodoRequest request) {
+            var violations = validator.validate(
+                    new ValidationInterceptorBenchmark.CreateTodoRequestBean(request.getDescription()), Default.class);
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(violations.iterator().next().getMessage());
+            }
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        String serverName = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(createService())
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(serverName)
+                .directExecutor()
+                .build();
+        blockingStub = TodoServiceGrpc.newBlockingStub(channel);
+        request = CreateTodoRequest.newBuilder().setDescription("Benchmark task").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public CreateTodoResponse create() {
+        return blockingStub.create(request);
+    }
+
+    private ServerServiceDefinition createService() {
+        StubTodoService service = new StubTodoService();
+        return switch (validation) {
+            case "interceptor" -> ServerInterceptors.intercept(service, new ValidationInterceptor());
+            case "aspect" -> {
+                AspectJProxyFactory proxyFactory = new AspectJProxyFactory(service);
+                proxyFactory.setProxyTargetClass(true);
+                proxyFactory.addAspect(new CreateValidationAspect());
+                StubTodoService proxy = proxyFactory.getProxy();
+                // bindService() is final, so the proxy binds itself and every call goes through the aspect
+                yield proxy.bindService();
+            }
+            default -> service.bindService();
+        };
+    }
+
+}
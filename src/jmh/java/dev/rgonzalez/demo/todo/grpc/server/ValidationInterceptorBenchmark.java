@@ -0,0 +1,59 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotEmpty;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Compares the create-path rule against the bean validation it replaced, which copied every request into a
+// wrapper and validated it reflectively
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationInterceptorBenchmark {
+    private Validator validator;
+    private CreateTodoRequest validRequest;
+    private CreateTodoRequest invalidRequest;
+
+    record CreateTodoRequestBean(@NotEmpty(message = ValidationInterceptor.DESCRIPTION_REQUIRED) String description) {
+    }
+
+    @Setup
+    public void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        validRequest = CreateTodoRequest.newBuilder().setDescription("Benchmark task").build();
+        invalidRequest = CreateTodoRequest.newBuilder().build();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTodoRequestBean>> beanValidationValidRequest() {
+        return validator.validate(new CreateTodoRequestBean(validRequest.getDescription()));
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTodoRequestBean>> beanValidationInvalidRequest() {
+        return validator.validate(new CreateTodoRequestBean(invalidRequest.getDescription()));
+    }
+
+    @Benchmark
+    public String compiledRuleValidRequest() {
+        return ValidationInterceptor.validateCreate(validRequest);
+    }
+
+    @Benchmark
+    public String compiledRuleInvalidRequest() {
+        return ValidationInterceptor.validateCreate(invalidRequest);
+    }
+
+}
@@ -0,0 +1,119 @@
+package dev.rgonzalez.demo.todo.grpc.service;
+
+import dev.rgonzalez.demo.todo.TodoApiApplication;
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
+import dev.rgonzalez.proto.todo.common.messages.PageRequest;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// gRPC counterpart of TodoControllerBenchmark: the List/Get/Create calls go through the Netty transport and the
+// whole interceptor chain of the running application, so the two transports can be compared on the same data.
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(256)
+public class TodoGrpcServiceBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private Path databaseFile;
+    private ConfigurableApplicationContext context;
+    private ManagedChannel channel;
+    private TodoServiceGrpc.TodoServiceBlockingStub blockingStub;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseFile = Files.createTempFile("todo-benchmark", ".db");
+        String url = "jdbc:sqlite:" + databaseFile;
+        // The gRPC server does not expose the port it bound, so a free one is picked up front
+        int grpcPort = freePort();
+        context = new SpringApplicationBuilder(TodoApiApplication.class)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.flyway.url=" + url,
+                        "server.port=0",
+                        "grpc.port=" + grpcPort,
+                        // Matches @Threads so the load shedding does not reject the benchmark's own calls
+                        "grpc.concurrency.limit=256",
+                        "cache.todo.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        TodoRepository todoRepository = context.getBean(TodoRepository.class);
+        for (int i = 1; i <= rows; i++) {
+            todoRepository.create(BenchmarkTodos.createTodo(i));
+        }
+        pages = rows / pageSize;
+
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcPort).usePlaintext().build();
+        blockingStub = TodoServiceGrpc.newBlockingStub(channel);
+        // The server is started asynchronously, the first call waits until it is listening
+        blockingStub.withWaitForReady()
+                .withDeadlineAfter(30, TimeUnit.SECONDS)
+                .get(GetTodoRequest.newBuilder().setId(1).build());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException, InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+        Files.deleteIfExists(databaseFile);
+    }
+
+    @Benchmark
+    public ListTodoResponse list() {
+        int page = ThreadLocalRandom.current().nextInt(pages);
+        PageRequest pageRequest = PageRequest.newBuilder().setPage(page).setSize(pageSize).build();
+        return blockingStub.list(ListTodoRequest.newBuilder().setPageRequest(pageRequest).build());
+    }
+
+    @Benchmark
+    public GetTodoResponse get() {
+        int id = ThreadLocalRandom.current().nextInt(1, rows + 1);
+        return blockingStub.get(GetTodoRequest.newBuilder().setId(id).build());
+    }
+
+    @Benchmark
+    public CreateTodoResponse create() {
+        return blockingStub.create(CreateTodoRequest.newBuilder().setDescription("Benchmark todo").build());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
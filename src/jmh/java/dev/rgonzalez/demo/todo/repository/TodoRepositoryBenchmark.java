@@ -0,0 +1,96 @@
+package dev.rgonzalez.demo.todo.repository;
+
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.model.PageRequest;
+import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoRepositoryBenchmark {
+    @Param({"1000"})
+    private int rows;
+
+    @Param({"20"})
+    private int pageSize;
+
+    @Param({"0", "64"})
+    private int statementCacheSize;
+
+    private Path databaseFile;
+    private SingleConnectionDataSource dataSource;
+    private TodoRepository todoRepository;
+    private int pages;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        databaseFile = Files.createTempFile("todo-benchmark", ".db");
+        String url = "jdbc:sqlite:" + databaseFile;
+        if (statementCacheSize > 0) {
+            StatementCachingDataSource cachingDataSource = new StatementCachingDataSource(
+                    new DriverManagerDataSource(url), statementCacheSize, new SimpleMeterRegistry(), "benchmark");
+            dataSource = new SingleConnectionDataSource(cachingDataSource.getConnection(), true);
+        } else {
+            dataSource = new SingleConnectionDataSource(url, true);
+        }
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        todoRepository = new TodoRepository(JdbcClient.create(dataSource), new SimpleMeterRegistry());
+        for (int i = 1; i <= rows; i++) {
+            todoRepository.create(BenchmarkTodos.createTodo(i));
+        }
+        pages = rows / pageSize;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        dataSource.destroy();
+        Files.deleteIfExists(databaseFile);
+    }
+
+    @Benchmark
+    public PagedResult<Todo> findAll() {
+        int page = ThreadLocalRandom.current().nextInt(pages);
+        return todoRepository.findAll(PageRequest.of(page, pageSize));
+    }
+
+    @Benchmark
+    public Optional<Todo> findById() {
+        int id = ThreadLocalRandom.current().nextInt(1, rows + 1);
+        return todoRepository.findById(id);
+    }
+
+    @Benchmark
+    public Todo create() {
+        return todoRepository.create(BenchmarkTodos.createTodo(rows + 1));
+    }
+
+}
@@ -0,0 +1,82 @@
+package dev.rgonzalez.demo.todo.repository;
+
+import dev.rgonzalez.demo.todo.benchmark.BenchmarkTodos;
+import dev.rgonzalez.demo.todo.model.Todo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Same page query mapped through Spring's reflective class mapping and through TodoRowMapper
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoRowMapperBenchmark {
+    private static final String SQL_PAGE = """
+            SELECT id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
+              FROM todo_item
+             LIMIT :limit
+            """;
+
+    @Param({"1000"})
+    private int rows;
+
+    private Path databaseFile;
+    private SingleConnectionDataSource dataSource;
+    private JdbcClient jdbcClient;
+    private TodoRowMapper todoRowMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        databaseFile = Files.createTempFile("todo-benchmark", ".db");
+        dataSource = new SingleConnectionDataSource("jdbc:sqlite:" + databaseFile, true);
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcClient = JdbcClient.create(dataSource);
+        new TodoRepository(jdbcClient, new SimpleMeterRegistry()).createAll(BenchmarkTodos.createTodoList(rows));
+        todoRowMapper = new TodoRowMapper();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        dataSource.destroy();
+        Files.deleteIfExists(databaseFile);
+    }
+
+    @Benchmark
+    public List<Todo> classMapping() {
+        return jdbcClient.sql(SQL_PAGE)
+                .param("limit", rows)
+                .query(Todo.class)
+                .list();
+    }
+
+    @Benchmark
+    public List<Todo> rowMapper() {
+        return jdbcClient.sql(SQL_PAGE)
+                .param("limit", rows)
+                .query(todoRowMapper)
+                .list();
+    }
+
+}
@@ -9,7 +9,83 @@ public class AppProperties {
     @Value("${grpc.port:50051}")
     private int grpcPort;
 
+    @Value("${grpc.max.inbound.message.size:4194304}")
+    private int grpcMaxInboundMessageSize;
+
+    @Value("${grpc.import.chunk.size:500}")
+    private int grpcImportChunkSize;
+
+    @Value("${grpc.netty.boss.threads:1}")
+    private int grpcNettyBossThreads;
+
+    // 0 lets Netty pick its default of twice the available processors
+    @Value("${grpc.netty.worker.threads:0}")
+    private int grpcNettyWorkerThreads;
+
+    @Value("${grpc.netty.epoll.enabled:true}")
+    private boolean grpcNettyEpollEnabled;
+
+    @Value("${grpc.keepalive.time.seconds:60}")
+    private long grpcKeepAliveTimeSeconds;
+
+    @Value("${grpc.keepalive.timeout.seconds:20}")
+    private long grpcKeepAliveTimeoutSeconds;
+
+    @Value("${grpc.permit.keepalive.time.seconds:30}")
+    private long grpcPermitKeepAliveTimeSeconds;
+
+    @Value("${grpc.permit.keepalive.without.calls:true}")
+    private boolean grpcPermitKeepAliveWithoutCalls;
+
+    @Value("${grpc.max.concurrent.calls.per.connection:1000}")
+    private int grpcMaxConcurrentCallsPerConnection;
+
+    @Value("${grpc.flow.control.window:1048576}")
+    private int grpcFlowControlWindow;
+
+    @Value("${grpc.concurrency.limit:128}")
+    private int grpcConcurrencyLimit;
+
+    @Value("${grpc.concurrency.max.wait.millis:50}")
+    private long grpcConcurrencyMaxWaitMillis;
+
+    @Value("${grpc.compression.enabled:true}")
+    private boolean grpcCompressionEnabled;
+
+    @Value("${grpc.compression.min.message.size:1024}")
+    private int grpcCompressionMinMessageSize;
+
     @Value("${termination.grace.period.seconds:30}")
     private long terminationGracePeriodSeconds;
 
+    @Value("${cache.todo.maximum.size:10000}")
+    private long todoCacheMaximumSize;
+
+    @Value("${cache.todo.expire.after.write.seconds:300}")
+    private long todoCacheExpireAfterWriteSeconds;
+
+    @Value("${datasource.reader.pool.size:4}")
+    private int datasourceReaderPoolSize;
+
+    @Value("${datasource.busy.timeout.millis:5000}")
+    private int datasourceBusyTimeoutMillis;
+
+    @Value("${datasource.connection.timeout.millis:30000}")
+    private long datasourceConnectionTimeoutMillis;
+
+    @Value("${datasource.statement.cache.size:64}")
+    private int datasourceStatementCacheSize;
+
+    @Value("${batch.max.size:500}")
+    private int batchMaxSize;
+
+    @Value("${writer.queue.capacity:10000}")
+    private int writerQueueCapacity;
+
+    @Value("${writer.group.max.size:64}")
+    private int writerGroupMaxSize;
+
+    @Value("${writer.group.max.delay.millis:2}")
+    private long writerGroupMaxDelayMillis;
+
 }
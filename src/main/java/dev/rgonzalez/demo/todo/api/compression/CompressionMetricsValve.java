@@ -0,0 +1,56 @@
+package dev.rgonzalez.demo.todo.api.compression;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.ServletException;
+import org.apache.catalina.AccessLog;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+
+// REST counterpart of MeteredGzipCompressor. Tomcat compresses inside its own output filter, out of reach of the
+// application, so the ratio is taken once the request is done (access log callback, which also covers async and
+// streamed responses) from the bytes the application wrote and the bytes that reached the socket.
+public class CompressionMetricsValve extends ValveBase implements AccessLog {
+    public static final String COMPRESSION_RATIO_METRIC = "http.server.compression.ratio";
+    private static final String GZIP = "gzip";
+    private final DistributionSummary compressionRatio;
+    private boolean requestAttributesEnabled;
+
+    public CompressionMetricsValve(MeterRegistry meterRegistry) {
+        super(true);
+        this.compressionRatio = DistributionSummary.builder(COMPRESSION_RATIO_METRIC)
+                .tag("encoding", GZIP)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        getNext().invoke(request, response);
+    }
+
+    @Override
+    public void log(Request request, Response response, long time) {
+        if (!GZIP.equals(response.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+            return;
+        }
+        long compressedBytes = response.getBytesWritten(false);
+        if (compressedBytes > 0) {
+            compressionRatio.record((double) response.getContentWritten() / compressedBytes);
+        }
+    }
+
+    @Override
+    public void setRequestAttributesEnabled(boolean requestAttributesEnabled) {
+        this.requestAttributesEnabled = requestAttributesEnabled;
+    }
+
+    @Override
+    public boolean getRequestAttributesEnabled() {
+        return requestAttributesEnabled;
+    }
+
+}
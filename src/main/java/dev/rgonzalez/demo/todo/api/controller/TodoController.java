@@ -1,14 +1,29 @@
 package dev.rgonzalez.demo.todo.api.controller;
 
 import dev.rgonzalez.demo.todo.api.converter.TodoDTOConverter;
+import dev.rgonzalez.demo.todo.api.domain.BatchCreateTodoRequest;
+import dev.rgonzalez.demo.todo.api.domain.BatchDeleteTodoRequest;
+import dev.rgonzalez.demo.todo.api.domain.BatchUpdateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.CreateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
+import dev.rgonzalez.demo.todo.api.export.ExportFormat;
+import dev.rgonzalez.demo.todo.api.export.TodoExportWriter;
 import dev.rgonzalez.demo.todo.api.domain.UpdateTodoRequest;
+import dev.rgonzalez.demo.todo.exceptions.BadRequestException;
+import dev.rgonzalez.demo.todo.exceptions.PreconditionFailedException;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.service.TodoService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,12 +32,19 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/todos")
@@ -30,19 +52,60 @@ import java.net.URI;
 public class TodoController {
     private final TodoService todoService;
     private final TodoDTOConverter converter;
+    private final TodoExportWriter exportWriter;
+    private static final String VERSION_MISMATCH = "Todo has been modified";
 
     @GetMapping
-    public PagedResult<TodoDTO> findAll(@RequestParam(name = "page", required = false, defaultValue = "0") Integer page,
-                                        @RequestParam(name = "size", required = false, defaultValue = "20") Integer size) {
-        PagedResult<Todo> pagedResult = todoService.findAll(PageRequest.of(page, size));
+    public PagedResult<TodoDTO> findAll(WebRequest webRequest,
+                                        @RequestParam(name = "page", required = false, defaultValue = "0") Integer page,
+                                        @RequestParam(name = "size", required = false, defaultValue = "20") Integer size,
+                                        @RequestParam(name = "totals", required = false, defaultValue = "true") boolean totals,
+                                        @RequestParam(name = "completed", required = false) Boolean completed,
+                                        @RequestParam(name = "priority", required = false) Priority priority,
+                                        @RequestParam(name = "dueFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                                        @RequestParam(name = "dueTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo) {
+        TodoFilter filter = toTodoFilter(completed, priority, dueFrom, dueTo);
+        // The change counter is read before the page, so a concurrent write can only make the ETag older, never newer
+        if (webRequest.checkNotModified(collectionETag(todoService.changeCount()))) {
+            return null;
+        }
+        PageRequest pageRequest = PageRequest.of(page, size);
+        PagedResult<Todo> pagedResult = todoService.findAll(filter, totals ? pageRequest : pageRequest.withoutTotals());
         return converter.toDTO(pagedResult);
     }
 
+    @GetMapping("/search")
+    public PagedResult<TodoDTO> search(@RequestParam(name = "q") String query,
+                                       @RequestParam(name = "page", required = false, defaultValue = "0") Integer page,
+                                       @RequestParam(name = "size", required = false, defaultValue = "20") Integer size,
+                                       @RequestParam(name = "totals", required = false, defaultValue = "true") boolean totals) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        PagedResult<Todo> pagedResult = todoService.search(query, totals ? pageRequest : pageRequest.withoutTotals());
+        return converter.toDTO(pagedResult);
+    }
+
+    @GetMapping(params = "after")
+    public CursorPagedResult<TodoDTO> findAllAfter(@RequestParam(name = "after") String after,
+                                                   @RequestParam(name = "size", required = false, defaultValue = "20") Integer size) {
+        CursorPagedResult<Todo> cursorPagedResult = todoService.findAll(toCursorPageRequest(after, size));
+        return converter.toDTO(cursorPagedResult);
+    }
+
+    @GetMapping(value = "/export",
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, ExportFormat.TEXT_CSV_VALUE})
+    ResponseEntity<StreamingResponseBody> export(@RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept) {
+        ExportFormat format = ExportFormat.fromAcceptHeader(accept);
+        StreamingResponseBody body = outputStream -> exportWriter.write(format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TodoDTO> findById(@PathVariable("id") Integer id) {
+        // If-None-Match and If-Modified-Since are answered with 304 from the ETag and Last-Modified headers
         return todoService.findById(id)
-                .map(converter::toDTO)
-                .map(ResponseEntity::ok)
+                .map(todo -> conditionalResponse(todo).body(converter.toDTO(todo)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
@@ -60,16 +123,89 @@ public class TodoController {
 
     @PatchMapping("/{id}")
     ResponseEntity<TodoDTO> update(@PathVariable("id") Integer id,
+                                   @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                    @RequestBody @Validated UpdateTodoRequest request) {
-        Todo todo = todoService.update(converter.toModel(id, request));
+        Todo todoToBeUpdated = converter.toModel(id, request);
+        todoToBeUpdated.setVersion(toExpectedVersion(ifMatch));
+        Todo todo = todoService.update(todoToBeUpdated);
         TodoDTO todoDTO = converter.toDTO(todo);
-        return ResponseEntity.ok(todoDTO);
+        return conditionalResponse(todo).body(todoDTO);
     }
 
     @DeleteMapping("/{id}")
-    ResponseEntity<Void> delete(@PathVariable(name = "id") Integer id) {
-        todoService.deleteById(id);
+    ResponseEntity<Void> delete(@PathVariable(name = "id") Integer id,
+                                @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        todoService.deleteById(id, toExpectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/batch")
+    ResponseEntity<BatchResult<TodoDTO>> createAll(@RequestBody @Validated BatchCreateTodoRequest request) {
+        List<Todo> todos = request.todos()
+                .stream()
+                .map(converter::toModel)
+                .toList();
+        return ResponseEntity.ok(converter.toDTO(todoService.createAll(todos)));
+    }
+
+    @PatchMapping("/batch")
+    ResponseEntity<BatchResult<TodoDTO>> updateAll(@RequestBody @Validated BatchUpdateTodoRequest request) {
+        List<Todo> todos = request.todos()
+                .stream()
+                .map(converter::toModel)
+                .toList();
+        return ResponseEntity.ok(converter.toDTO(todoService.updateAll(todos)));
+    }
+
+    @DeleteMapping("/batch")
+    ResponseEntity<BatchResult<Integer>> deleteAll(@RequestBody @Validated BatchDeleteTodoRequest request) {
+        return ResponseEntity.ok(todoService.deleteAllById(request.ids()));
+    }
+
+    private ResponseEntity.BodyBuilder conditionalResponse(Todo todo) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().eTag(String.valueOf(todo.getVersion()));
+        if (Objects.nonNull(todo.getUpdatedAt())) {
+            builder.lastModified(todo.getUpdatedAt().atZone(ZoneOffset.UTC));
+        }
+        return builder;
+    }
+
+    // The cursor comes from the client, so a malformed one is a bad request rather than a server error
+    static CursorPageRequest toCursorPageRequest(String after, int size) {
+        try {
+            return CursorPageRequest.of(after, size);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    static TodoFilter toTodoFilter(Boolean completed, Priority priority, LocalDate dueFrom, LocalDate dueTo) {
+        try {
+            return TodoFilter.of(completed, priority, dueFrom, dueTo);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(e.getMessage(), e);
+        }
+    }
+
+    // Weak, because the same counter validates every page and filter combination served under /todos
+    private static String collectionETag(long changeCount) {
+        return "W/\"" + changeCount + "\"";
+    }
+
+    // No header or "*" means an unconditional write, anything else has to be a strong ETag of a version
+    static Long toExpectedVersion(String ifMatch) {
+        if (Objects.isNull(ifMatch) || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if (eTag.length() < 2 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            throw new PreconditionFailedException(VERSION_MISMATCH);
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException(VERSION_MISMATCH, e);
+        }
+    }
+
 }
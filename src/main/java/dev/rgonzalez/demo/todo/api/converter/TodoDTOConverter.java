@@ -1,15 +1,22 @@
 package dev.rgonzalez.demo.todo.api.converter;
 
+import dev.rgonzalez.demo.todo.api.domain.BatchUpdateTodoItem;
 import dev.rgonzalez.demo.todo.api.domain.CreateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
 import dev.rgonzalez.demo.todo.api.domain.UpdateTodoRequest;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
 
 @Component
 public class TodoDTOConverter {
@@ -19,23 +26,41 @@ public class TodoDTOConverter {
                 todo.getDescription(),
                 todo.getPriority(),
                 todo.getDueDate(),
-                todo.isCompleted(),
+                Boolean.TRUE.equals(todo.getCompleted()),
                 todo.getCreatedAt(),
                 todo.getCompletedAt());
     }
 
     public PagedResult<TodoDTO> toDTO(PagedResult<Todo> pagedResult) {
-        List<TodoDTO> content = pagedResult.getContent()
-                .stream()
-                .map(this::toDTO)
-                .toList();
-        return new PagedResult<>(
+        List<TodoDTO> content = toDTOList(pagedResult.getContent());
+        PageRequest pageRequest = PageRequest.of(pagedResult.getPage(), pagedResult.getSize());
+        if (Objects.isNull(pagedResult.getTotalElements())) {
+            return new PagedResult<>(content, pageRequest);
+        }
+        return new PagedResult<>(content, pagedResult.getTotalElements(), pageRequest);
+    }
+
+    public CursorPagedResult<TodoDTO> toDTO(CursorPagedResult<Todo> cursorPagedResult) {
+        List<TodoDTO> content = toDTOList(cursorPagedResult.getContent());
+        return new CursorPagedResult<>(
                 content,
-                pagedResult.getTotalElements(),
-                PageRequest.of(pagedResult.getPage(), pagedResult.getSize())
+                cursorPagedResult.getNextCursor(),
+                CursorPageRequest.of(null, cursorPagedResult.getSize())
         );
     }
 
+    public BatchResult<TodoDTO> toDTO(BatchResult<Todo> batchResult) {
+        return batchResult.map(this::toDTO);
+    }
+
+    private List<TodoDTO> toDTOList(List<Todo> todos) {
+        List<TodoDTO> content = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            content.add(toDTO(todo));
+        }
+        return content;
+    }
+
     public Todo toModel(CreateTodoRequest createTodoRequest) {
         return Todo.builder()
                 .description(createTodoRequest.description())
@@ -45,16 +70,30 @@ public class TodoDTOConverter {
     }
 
     public Todo toModel(Integer id, UpdateTodoRequest updateTodoRequest) {
+        return toModel(id, updateTodoRequest.description(), updateTodoRequest.priority(),
+                updateTodoRequest.dueDate(), updateTodoRequest.completed());
+    }
+
+    public Todo toModel(BatchUpdateTodoItem batchUpdateTodoItem) {
+        return toModel(batchUpdateTodoItem.id(), batchUpdateTodoItem.description(), batchUpdateTodoItem.priority(),
+                batchUpdateTodoItem.dueDate(), batchUpdateTodoItem.completed());
+    }
+
+    private Todo toModel(Integer id, String description, Priority priority, LocalDate dueDate, Boolean completed) {
         Todo.TodoBuilder builder = Todo.builder().id(id);
 
-        Optional.ofNullable(updateTodoRequest.description())
-                .ifPresent(builder::description);
-        Optional.ofNullable(updateTodoRequest.priority())
-                .ifPresent(builder::priority);
-        Optional.ofNullable(updateTodoRequest.completed())
-                .ifPresent(builder::completed);
-        Optional.ofNullable(updateTodoRequest.dueDate())
-                .ifPresent(builder::dueDate);
+        if (Objects.nonNull(description)) {
+            builder.description(description);
+        }
+        if (Objects.nonNull(priority)) {
+            builder.priority(priority);
+        }
+        if (Objects.nonNull(completed)) {
+            builder.completed(completed);
+        }
+        if (Objects.nonNull(dueDate)) {
+            builder.dueDate(dueDate);
+        }
 
         return builder.build();
     }
@@ -0,0 +1,8 @@
+package dev.rgonzalez.demo.todo.api.domain;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+public record BatchDeleteTodoRequest(@NotEmpty(message = "Ids are required") List<Integer> ids) {
+}
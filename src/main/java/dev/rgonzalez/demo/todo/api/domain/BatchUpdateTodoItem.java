@@ -0,0 +1,9 @@
+package dev.rgonzalez.demo.todo.api.domain;
+
+import dev.rgonzalez.demo.todo.model.Priority;
+
+import java.time.LocalDate;
+
+public record BatchUpdateTodoItem(Integer id, String description, Priority priority, LocalDate dueDate,
+                                  Boolean completed) {
+}
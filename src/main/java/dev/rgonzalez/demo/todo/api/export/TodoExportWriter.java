@@ -0,0 +1,110 @@
+package dev.rgonzalez.demo.todo.api.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.rgonzalez.demo.todo.api.converter.TodoDTOConverter;
+import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
+import dev.rgonzalez.demo.todo.service.TodoService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class TodoExportWriter {
+    private static final String CSV_HEADER = "id,description,priority,dueDate,completed,createdAt,completedAt";
+
+    private final TodoService todoService;
+    private final TodoDTOConverter converter;
+    private final ObjectMapper objectMapper;
+
+    public void write(ExportFormat format, OutputStream outputStream) throws IOException {
+        switch (format) {
+            case JSON -> writeJsonArray(outputStream);
+            case NDJSON -> writeNdjson(outputStream);
+            case CSV -> writeCsv(outputStream);
+        }
+    }
+
+    public void writeJsonArray(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            todoService.exportAll(todo -> {
+                try {
+                    generator.writeObject(converter.toDTO(todo));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+
+    public void writeNdjson(OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.setRootValueSeparator(null);
+            todoService.exportAll(todo -> {
+                try {
+                    generator.writeObject(converter.toDTO(todo));
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    public void writeCsv(OutputStream outputStream) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            todoService.exportAll(todo -> {
+                try {
+                    writeCsvRow(writer, converter.toDTO(todo));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private void writeCsvRow(Writer writer, TodoDTO todo) throws IOException {
+        writer.write(String.valueOf(todo.id()));
+        writer.write(',');
+        writer.write(escapeCsv(todo.description()));
+        writer.write(',');
+        writer.write(csvValue(todo.priority()));
+        writer.write(',');
+        writer.write(csvValue(todo.dueDate()));
+        writer.write(',');
+        writer.write(String.valueOf(todo.completed()));
+        writer.write(',');
+        writer.write(csvValue(todo.createdAt()));
+        writer.write(',');
+        writer.write(csvValue(todo.completedAt()));
+        writer.write('\n');
+    }
+
+    private String csvValue(Object value) {
+        return Objects.isNull(value) ? "" : value.toString();
+    }
+
+    private String escapeCsv(String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,32 @@
+package dev.rgonzalez.demo.todo.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.rgonzalez.demo.todo.AppProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "cache.todo.enabled", havingValue = "true", matchIfMissing = true)
+public class CachingConfig {
+    public static final String TODOS_CACHE = "todos";
+
+    @Bean
+    public CacheManager cacheManager(AppProperties appProperties) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(TODOS_CACHE);
+        caffeineCacheManager.setAllowNullValues(false);
+        caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(appProperties.getTodoCacheMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(appProperties.getTodoCacheExpireAfterWriteSeconds()))
+                .recordStats());
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+
+}
@@ -0,0 +1,86 @@
+package dev.rgonzalez.demo.todo.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.util.DriverDataSource;
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.repository.StatementCachingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Properties;
+
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+    public static final String WRITER_POOL_NAME = "sqlite-writer";
+    public static final String READER_POOL_NAME = "sqlite-reader";
+
+    // SQLite allows a single writer at a time, so the writer pool never needs more than one connection
+    @Bean(destroyMethod = "close")
+    public HikariDataSource writerDataSource(DataSourceProperties dataSourceProperties,
+                                             AppProperties appProperties,
+                                             MeterRegistry meterRegistry) {
+        HikariConfig config = createSqliteConfig(dataSourceProperties, appProperties, meterRegistry, WRITER_POOL_NAME);
+        config.setMaximumPoolSize(1);
+        return new HikariDataSource(config);
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource readerDataSource(DataSourceProperties dataSourceProperties,
+                                             AppProperties appProperties,
+                                             MeterRegistry meterRegistry) {
+        HikariConfig config = createSqliteConfig(dataSourceProperties, appProperties, meterRegistry, READER_POOL_NAME);
+        config.setMaximumPoolSize(appProperties.getDatasourceReaderPoolSize());
+        config.setConnectionInitSql("PRAGMA query_only = true");
+        return new HikariDataSource(config);
+    }
+
+    // Connections are fetched lazily so the read-only flag of the transaction is known when picking the pool
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource writerDataSource, HikariDataSource readerDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writerDataSource);
+        dataSource.setReadOnlyDataSource(readerDataSource);
+        return dataSource;
+    }
+
+    private HikariConfig createSqliteConfig(DataSourceProperties dataSourceProperties,
+                                            AppProperties appProperties,
+                                            MeterRegistry meterRegistry,
+                                            String poolName) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setConnectionTimeout(appProperties.getDatasourceConnectionTimeoutMillis());
+        config.setDataSource(createSqliteDataSource(dataSourceProperties, appProperties, meterRegistry, poolName));
+        return config;
+    }
+
+    // Hikari doesn't cache statements, so the physical connections it pools come from a caching data source
+    private DataSource createSqliteDataSource(DataSourceProperties dataSourceProperties,
+                                              AppProperties appProperties,
+                                              MeterRegistry meterRegistry,
+                                              String poolName) {
+        Properties properties = new Properties();
+        properties.setProperty("journal_mode", "WAL");
+        properties.setProperty("synchronous", "NORMAL");
+        properties.setProperty("busy_timeout", String.valueOf(appProperties.getDatasourceBusyTimeoutMillis()));
+        DataSource driverDataSource = new DriverDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineDriverClassName(),
+                properties,
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+        if (appProperties.getDatasourceStatementCacheSize() < 1) {
+            return driverDataSource;
+        }
+        return new StatementCachingDataSource(driverDataSource, appProperties.getDatasourceStatementCacheSize(),
+                meterRegistry, poolName);
+    }
+
+}
@@ -0,0 +1,25 @@
+package dev.rgonzalez.demo.todo.config;
+
+import dev.rgonzalez.demo.todo.api.compression.CompressionMetricsValve;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> compressionMetricsCustomizer(
+            MeterRegistry meterRegistry) {
+        return factory -> factory.addEngineValves(new CompressionMetricsValve(meterRegistry));
+    }
+
+}
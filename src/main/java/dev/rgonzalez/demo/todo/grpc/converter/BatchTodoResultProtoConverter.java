@@ -0,0 +1,34 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class BatchTodoResultProtoConverter implements ProtoConverter<BatchTodoResult, BatchItemResult<Todo>> {
+    private final TodoProtoConverter todoProtoConverter;
+
+    @Override
+    public BatchTodoResult toProto(BatchItemResult<Todo> model) {
+        if (Objects.isNull(model)) {
+            return null;
+        }
+        BatchTodoResult.Builder builder = BatchTodoResult.newBuilder()
+                .setIndex(model.getIndex());
+        if (model.isSuccess()) {
+            var todo = todoProtoConverter.toProto(model.getResult());
+            if (Objects.isNull(todo)) {
+                return null;
+            }
+            builder.setTodo(todo);
+        } else {
+            builder.setError(model.getError());
+        }
+        return builder.build();
+    }
+}
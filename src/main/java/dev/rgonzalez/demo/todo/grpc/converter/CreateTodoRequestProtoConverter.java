@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -16,20 +15,18 @@ public class CreateTodoRequestProtoConverter implements ModelConverter<Todo, Cre
     private final DateProtoConverter dateProtoConverter;
 
     @Override
-    public Optional<Todo> toModel(CreateTodoRequest proto) {
+    public Todo toModel(CreateTodoRequest proto) {
         if (Objects.isNull(proto)) {
-            return Optional.empty();
+            return null;
         }
         Todo.TodoBuilder builder = Todo.builder().description(proto.getDescription());
 
         if (proto.hasPriority() && !proto.getPriority().equals(Priority.PRIORITY_UNSPECIFIED)) {
-            var optionalPriority = priorityProtoConverter.toModel(proto.getPriority());
-            optionalPriority.ifPresent(builder::priority);
+            builder.priority(priorityProtoConverter.toModel(proto.getPriority()));
         }
         if (proto.hasDueDate()) {
-            var optionalDueDate = dateProtoConverter.toModel(proto.getDueDate());
-            optionalDueDate.ifPresent(builder::dueDate);
+            builder.dueDate(dateProtoConverter.toModel(proto.getDueDate()));
         }
-        return Optional.of(builder.build());
+        return builder.build();
     }
 }
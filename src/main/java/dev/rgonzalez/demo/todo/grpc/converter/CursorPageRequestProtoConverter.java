@@ -0,0 +1,20 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.proto.todo.common.messages.CursorRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+public class CursorPageRequestProtoConverter implements ModelConverter<CursorPageRequest, CursorRequest> {
+
+    @Override
+    public CursorPageRequest toModel(CursorRequest cursorRequestProto) {
+        if (Objects.isNull(cursorRequestProto)) {
+            return null;
+        }
+        return CursorPageRequest.of(cursorRequestProto.getAfter(), cursorRequestProto.getSize());
+    }
+
+}
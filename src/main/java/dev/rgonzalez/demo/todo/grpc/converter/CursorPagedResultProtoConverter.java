@@ -0,0 +1,43 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import dev.rgonzalez.proto.todo.common.messages.CursorResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class CursorPagedResultProtoConverter implements ProtoConverter<ListTodoResponse, CursorPagedResult<Todo>> {
+    private final TodoProtoConverter todoProtoConverter;
+
+    @Override
+    public ListTodoResponse toProto(CursorPagedResult<Todo> model) {
+        if (Objects.isNull(model)) {
+            return null;
+        }
+        ListTodoResponse.Builder builder = ListTodoResponse.newBuilder()
+                .setCursorResponse(toCursorResponse(model));
+        dev.rgonzalez.proto.todo.common.messages.Todo.Builder todoBuilder =
+                dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+        for (Todo todo : model.getContent()) {
+            if (Objects.nonNull(todo)) {
+                todoProtoConverter.writeTo(todoBuilder.clear(), todo);
+                builder.addTodos(todoBuilder.build());
+            }
+        }
+        return builder.build();
+    }
+
+    private CursorResponse toCursorResponse(CursorPagedResult<Todo> cursorPagedResult) {
+        CursorResponse.Builder builder = CursorResponse.newBuilder()
+                .setSize(cursorPagedResult.getSize());
+        if (Objects.nonNull(cursorPagedResult.getNextCursor())) {
+            builder.setNextCursor(cursorPagedResult.getNextCursor());
+        }
+        return builder.build();
+    }
+}
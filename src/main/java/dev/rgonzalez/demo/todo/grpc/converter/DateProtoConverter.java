@@ -4,7 +4,7 @@ import dev.rgonzalez.proto.todo.common.messages.Date;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.Optional;
+import java.util.Objects;
 
 @Component
 public class DateProtoConverter implements
@@ -12,19 +12,19 @@ public class DateProtoConverter implements
         ModelConverter<LocalDate, Date> {
 
     @Override
-    public Optional<Date> toProto(LocalDate model) {
-        return Optional.ofNullable(model)
-                .map(localDate -> Date.newBuilder()
-                        .setYear(localDate.getYear())
-                        .setMonth(localDate.getMonthValue())
-                        .setDay(localDate.getDayOfMonth())
-                        .build());
+    public Date toProto(LocalDate model) {
+        if (Objects.isNull(model)) {
+            return null;
+        }
+        return ProtoConversions.toProtoDate(model);
     }
 
     @Override
-    public Optional<LocalDate> toModel(Date proto) {
-        return Optional.ofNullable(proto)
-                .map(date -> LocalDate.of(date.getYear(), date.getMonth(), date.getDay()));
+    public LocalDate toModel(Date proto) {
+        if (Objects.isNull(proto)) {
+            return null;
+        }
+        return LocalDate.of(proto.getYear(), proto.getMonth(), proto.getDay());
     }
 
 }
@@ -1,7 +1,6 @@
 package dev.rgonzalez.demo.todo.grpc.converter;
 
-import java.util.Optional;
-
+// Returns null when there is nothing to convert, so conversions don't allocate an Optional per call
 public interface ModelConverter<M, P> {
-    Optional<M> toModel(P proto);
+    M toModel(P proto);
 }
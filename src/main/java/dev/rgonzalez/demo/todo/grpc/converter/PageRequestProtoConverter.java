@@ -3,7 +3,7 @@ package dev.rgonzalez.demo.todo.grpc.converter;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
+import java.util.Objects;
 
 @Component
 public class PageRequestProtoConverter implements
@@ -11,20 +11,24 @@ public class PageRequestProtoConverter implements
         ProtoConverter<dev.rgonzalez.proto.todo.common.messages.PageRequest, PageRequest> {
 
     @Override
-    public Optional<PageRequest> toModel(dev.rgonzalez.proto.todo.common.messages.PageRequest pageRequestProto) {
-        return Optional.of(
-                PageRequest.of(pageRequestProto.getPage(), pageRequestProto.getSize())
-        );
+    public PageRequest toModel(dev.rgonzalez.proto.todo.common.messages.PageRequest pageRequestProto) {
+        if (Objects.isNull(pageRequestProto)) {
+            return null;
+        }
+        PageRequest pageRequest = PageRequest.of(pageRequestProto.getPage(), pageRequestProto.getSize());
+        return pageRequestProto.getSkipTotals() ? pageRequest.withoutTotals() : pageRequest;
     }
 
     @Override
-    public Optional<dev.rgonzalez.proto.todo.common.messages.PageRequest> toProto(PageRequest pageRequestModel) {
-        return Optional.of(
-                dev.rgonzalez.proto.todo.common.messages.PageRequest.newBuilder()
-                        .setPage(pageRequestModel.getPage())
-                        .setSize(pageRequestModel.getSize())
-                        .build()
-        );
+    public dev.rgonzalez.proto.todo.common.messages.PageRequest toProto(PageRequest pageRequestModel) {
+        if (Objects.isNull(pageRequestModel)) {
+            return null;
+        }
+        return dev.rgonzalez.proto.todo.common.messages.PageRequest.newBuilder()
+                .setPage(pageRequestModel.getPage())
+                .setSize(pageRequestModel.getSize())
+                .setSkipTotals(!pageRequestModel.isIncludeTotals())
+                .build();
     }
 
 }
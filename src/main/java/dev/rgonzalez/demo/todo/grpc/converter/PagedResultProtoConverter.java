@@ -7,9 +7,7 @@ import dev.rgonzalez.proto.todo.common.messages.PageResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -17,32 +15,46 @@ public class PagedResultProtoConverter implements ProtoConverter<ListTodoRespons
     private final TodoProtoConverter todoProtoConverter;
 
     @Override
-    public Optional<ListTodoResponse> toProto(PagedResult<Todo> model) {
+    public ListTodoResponse toProto(PagedResult<Todo> model) {
         if (Objects.isNull(model)) {
-            return Optional.empty();
+            return null;
         }
-        PageResponse pageResponse = toPageResponse(model);
-
-        List<dev.rgonzalez.proto.todo.common.messages.Todo> protoTodoList = model.getContent()
-                .stream()
-                .map(todoProtoConverter::toProto)
-                .flatMap(Optional::stream)
-                .toList();
+        ListTodoResponse.Builder builder = ListTodoResponse.newBuilder()
+                .setPageResponse(toPageResponse(model));
+        // The nested getXBuilder()/addXBuilder() accessors allocate field builders, so one plain builder is reused
+        dev.rgonzalez.proto.todo.common.messages.Todo.Builder todoBuilder =
+                dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+        for (Todo todo : model.getContent()) {
+            if (Objects.nonNull(todo)) {
+                todoProtoConverter.writeTo(todoBuilder.clear(), todo);
+                builder.addTodos(todoBuilder.build());
+            }
+        }
+        return builder.build();
+    }
 
-        return Optional.of(
-                ListTodoResponse.newBuilder()
-                        .setPageResponse(pageResponse)
-                        .addAllTodos(protoTodoList)
-                        .build()
-        );
+    // For pages whose rows were already mapped to protobuf messages by TodoProtoRowMapper
+    public ListTodoResponse toListTodoResponse(
+            PagedResult<dev.rgonzalez.proto.todo.common.messages.Todo> pagedResult) {
+        if (Objects.isNull(pagedResult)) {
+            return null;
+        }
+        return ListTodoResponse.newBuilder()
+                .setPageResponse(toPageResponse(pagedResult))
+                .addAllTodos(pagedResult.getContent())
+                .build();
     }
 
-    private PageResponse toPageResponse(PagedResult<Todo> pagedResult) {
-        return PageResponse.newBuilder()
+    private PageResponse toPageResponse(PagedResult<?> pagedResult) {
+        PageResponse.Builder builder = PageResponse.newBuilder()
                 .setPage(pagedResult.getPage())
-                .setSize(pagedResult.getSize())
-                .setTotalElements(pagedResult.getTotalElements())
-                .setTotalPages(pagedResult.getTotalPages())
-                .build();
+                .setSize(pagedResult.getSize());
+        if (Objects.nonNull(pagedResult.getTotalElements())) {
+            builder.setTotalElements(pagedResult.getTotalElements());
+        }
+        if (Objects.nonNull(pagedResult.getTotalPages())) {
+            builder.setTotalPages(pagedResult.getTotalPages());
+        }
+        return builder.build();
     }
 }
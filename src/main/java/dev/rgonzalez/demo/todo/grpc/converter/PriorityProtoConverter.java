@@ -4,27 +4,30 @@ import dev.rgonzalez.demo.todo.model.Priority;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
-import java.util.Optional;
 
 @Component
 public class PriorityProtoConverter implements
         EnumProtoConverter<dev.rgonzalez.proto.todo.common.messages.Priority, Priority>,
         EnumModelConverter<Priority, dev.rgonzalez.proto.todo.common.messages.Priority> {
 
+    private static final Priority[] PRIORITIES = Priority.values();
+
     @Override
     public dev.rgonzalez.proto.todo.common.messages.Priority toProto(Priority priorityModel) {
         if (Objects.isNull(priorityModel)) {
             return dev.rgonzalez.proto.todo.common.messages.Priority.PRIORITY_UNSPECIFIED;
         }
-        return dev.rgonzalez.proto.todo.common.messages.Priority.forNumber(priorityModel.ordinal() + 1);
+        return ProtoConversions.toProtoPriority(priorityModel);
     }
 
     @Override
-    public Optional<Priority> toModel(dev.rgonzalez.proto.todo.common.messages.Priority priorityProto) {
-        if (priorityProto.equals(dev.rgonzalez.proto.todo.common.messages.Priority.PRIORITY_UNSPECIFIED)) {
-            return Optional.empty();
+    public Priority toModel(dev.rgonzalez.proto.todo.common.messages.Priority priorityProto) {
+        if (Objects.isNull(priorityProto)
+                || priorityProto.equals(dev.rgonzalez.proto.todo.common.messages.Priority.PRIORITY_UNSPECIFIED)) {
+            return null;
         }
-        return Optional.of(Priority.values()[priorityProto.getNumber() - 1]);
+        // values() clones the array on every call
+        return PRIORITIES[priorityProto.getNumber() - 1];
     }
 
 }
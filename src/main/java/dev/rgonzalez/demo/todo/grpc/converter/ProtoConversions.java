@@ -0,0 +1,38 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import com.google.protobuf.Timestamp;
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.proto.todo.common.messages.Date;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Shared by the converters and TodoProtoRowMapper, so a todo becomes the same message whichever path builds it
+public final class ProtoConversions {
+
+    private ProtoConversions() {
+    }
+
+    // The proto enum keeps 0 for PRIORITY_UNSPECIFIED
+    public static dev.rgonzalez.proto.todo.common.messages.Priority toProtoPriority(Priority priority) {
+        return dev.rgonzalez.proto.todo.common.messages.Priority.forNumber(priority.ordinal() + 1);
+    }
+
+    public static Date toProtoDate(LocalDate localDate) {
+        return Date.newBuilder()
+                .setYear(localDate.getYear())
+                .setMonth(localDate.getMonthValue())
+                .setDay(localDate.getDayOfMonth())
+                .build();
+    }
+
+    // Same seconds and nanos as going through Instant, without creating one
+    public static Timestamp toTimestamp(LocalDateTime localDateTime) {
+        return Timestamp.newBuilder()
+                .setSeconds(localDateTime.toEpochSecond(ZoneOffset.UTC))
+                .setNanos(localDateTime.getNano())
+                .build();
+    }
+
+}
@@ -1,7 +1,6 @@
 package dev.rgonzalez.demo.todo.grpc.converter;
 
-import java.util.Optional;
-
+// Returns null when there is nothing to convert, so conversions don't allocate an Optional per call
 public interface ProtoConverter<P, M> {
-    Optional<P> toProto(M model);
+    P toProto(M model);
 }
@@ -0,0 +1,6 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+// Writes the model into a builder owned by the caller, so one builder can be cleared and reused for every row
+public interface ProtoWriter<B, M> {
+    void writeTo(B builder, M model);
+}
@@ -0,0 +1,36 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Component
+@RequiredArgsConstructor
+public class TodoFilterProtoConverter implements
+        ModelConverter<TodoFilter, dev.rgonzalez.proto.todo.client.todo.TodoFilter> {
+    private final PriorityProtoConverter priorityProtoConverter;
+    private final DateProtoConverter dateProtoConverter;
+
+    @Override
+    public TodoFilter toModel(dev.rgonzalez.proto.todo.client.todo.TodoFilter proto) {
+        if (Objects.isNull(proto)) {
+            return null;
+        }
+        Boolean completed = proto.hasCompleted() ? proto.getCompleted() : null;
+        Priority priority = proto.hasPriority()
+                ? priorityProtoConverter.toModel(proto.getPriority())
+                : null;
+        LocalDate dueFrom = proto.hasDueFrom()
+                ? dateProtoConverter.toModel(proto.getDueFrom())
+                : null;
+        LocalDate dueTo = proto.hasDueTo()
+                ? dateProtoConverter.toModel(proto.getDueTo())
+                : null;
+        return TodoFilter.of(completed, priority, dueFrom, dueTo);
+    }
+
+}
@@ -5,36 +5,45 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
-import java.util.Optional;
 
 
 @Component
 @RequiredArgsConstructor
 public class TodoProtoConverter implements
-        ProtoConverter<dev.rgonzalez.proto.todo.common.messages.Todo, Todo> {
+        ProtoConverter<dev.rgonzalez.proto.todo.common.messages.Todo, Todo>,
+        ProtoWriter<dev.rgonzalez.proto.todo.common.messages.Todo.Builder, Todo> {
     private final PriorityProtoConverter priorityProtoConverter;
     private final DateProtoConverter dateProtoConverter;
     private final LocalDateTimeProtoConverter localDateTimeProtoConverter;
 
-    public Optional<dev.rgonzalez.proto.todo.common.messages.Todo> toProto(Todo todo) {
+    @Override
+    public dev.rgonzalez.proto.todo.common.messages.Todo toProto(Todo todo) {
         if (Objects.isNull(todo)) {
-            return Optional.empty();
+            return null;
         }
-        dev.rgonzalez.proto.todo.common.messages.Todo.Builder builder = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder()
-                .setId(todo.getId())
+        dev.rgonzalez.proto.todo.common.messages.Todo.Builder builder = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+        writeTo(builder, todo);
+        return builder.build();
+    }
+
+    @Override
+    public void writeTo(dev.rgonzalez.proto.todo.common.messages.Todo.Builder builder, Todo todo) {
+        builder.setId(todo.getId())
                 .setDescription(todo.getDescription())
-                .setCompleted(todo.isCompleted());
-
-        Optional.ofNullable(todo.getPriority())
-                .ifPresent(priority -> builder.setPriority(priorityProtoConverter.toProto(priority)));
-        Optional.ofNullable(todo.getDueDate())
-                .ifPresent(dueDate -> builder.setDueDate(dateProtoConverter.toProto(dueDate).get()));
-        Optional.ofNullable(todo.getCompletedAt())
-                .ifPresent(completedAt -> builder.setCompletedAt(localDateTimeProtoConverter.toProto(completedAt).get()));
-        Optional.ofNullable(todo.getCreatedAt())
-                .ifPresent(createdAt -> builder.setCreatedAt(localDateTimeProtoConverter.toProto(createdAt).get()));
-
-        return Optional.of(builder.build());
+                .setCompleted(Boolean.TRUE.equals(todo.getCompleted()));
+
+        if (Objects.nonNull(todo.getPriority())) {
+            builder.setPriority(priorityProtoConverter.toProto(todo.getPriority()));
+        }
+        if (Objects.nonNull(todo.getDueDate())) {
+            builder.setDueDate(dateProtoConverter.toProto(todo.getDueDate()));
+        }
+        if (Objects.nonNull(todo.getCompletedAt())) {
+            builder.setCompletedAt(localDateTimeProtoConverter.toProto(todo.getCompletedAt()));
+        }
+        if (Objects.nonNull(todo.getCreatedAt())) {
+            builder.setCreatedAt(localDateTimeProtoConverter.toProto(todo.getCreatedAt()));
+        }
     }
 
 }
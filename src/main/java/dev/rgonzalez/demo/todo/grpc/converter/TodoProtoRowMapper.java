@@ -0,0 +1,46 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.repository.TodoRowMapper;
+import dev.rgonzalez.proto.todo.common.messages.Todo;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Builds the protobuf Todo straight from the row, producing the same message as TodoProtoConverter
+// without the intermediate model object
+@Component
+public class TodoProtoRowMapper implements RowMapper<Todo> {
+
+    @Override
+    public Todo mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Todo.Builder builder = Todo.newBuilder()
+                .setId(rs.getInt(TodoRowMapper.ID))
+                .setDescription(rs.getString(TodoRowMapper.DESCRIPTION))
+                .setCompleted(rs.getBoolean(TodoRowMapper.COMPLETED));
+
+        String priority = rs.getString(TodoRowMapper.PRIORITY);
+        if (Objects.nonNull(priority)) {
+            builder.setPriority(ProtoConversions.toProtoPriority(Priority.valueOf(priority)));
+        }
+        LocalDate dueDate = rs.getObject(TodoRowMapper.DUE_DATE, LocalDate.class);
+        if (Objects.nonNull(dueDate)) {
+            builder.setDueDate(ProtoConversions.toProtoDate(dueDate));
+        }
+        LocalDateTime completedAt = rs.getObject(TodoRowMapper.COMPLETED_AT, LocalDateTime.class);
+        if (Objects.nonNull(completedAt)) {
+            builder.setCompletedAt(ProtoConversions.toTimestamp(completedAt));
+        }
+        LocalDateTime createdAt = rs.getObject(TodoRowMapper.CREATED_AT, LocalDateTime.class);
+        if (Objects.nonNull(createdAt)) {
+            builder.setCreatedAt(ProtoConversions.toTimestamp(createdAt));
+        }
+        return builder.build();
+    }
+
+}
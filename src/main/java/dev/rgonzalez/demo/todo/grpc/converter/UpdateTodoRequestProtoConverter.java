@@ -7,7 +7,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Objects;
-import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -16,9 +15,9 @@ public class UpdateTodoRequestProtoConverter implements ModelConverter<Todo, Upd
     private final DateProtoConverter dateProtoConverter;
 
     @Override
-    public Optional<Todo> toModel(UpdateTodoRequest proto) {
+    public Todo toModel(UpdateTodoRequest proto) {
         if (Objects.isNull(proto)) {
-            return Optional.empty();
+            return null;
         }
         Todo.TodoBuilder builder = Todo.builder().id(proto.getId());
 
@@ -27,19 +26,17 @@ public class UpdateTodoRequestProtoConverter implements ModelConverter<Todo, Upd
         }
 
         if (proto.hasDueDate()) {
-            var optionalDueDate = dateProtoConverter.toModel(proto.getDueDate());
-            optionalDueDate.ifPresent(builder::dueDate);
+            builder.dueDate(dateProtoConverter.toModel(proto.getDueDate()));
         }
 
         if (proto.hasPriority() && !proto.getPriority().equals(Priority.PRIORITY_UNSPECIFIED)) {
-            var optionalPriority = priorityProtoConverter.toModel(proto.getPriority());
-            optionalPriority.ifPresent(builder::priority);
+            builder.priority(priorityProtoConverter.toModel(proto.getPriority()));
         }
 
         if (proto.hasCompleted()) {
             builder.completed(proto.getCompleted());
         }
 
-        return Optional.of(builder.build());
+        return builder.build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,42 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import com.google.protobuf.MessageLite;
+import dev.rgonzalez.demo.todo.AppProperties;
+import io.grpc.ForwardingServerCall;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class CompressionInterceptor implements ServerInterceptor {
+    public static final String GZIP = "gzip";
+    private final AppProperties appProperties;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        if (!appProperties.isGrpcCompressionEnabled()) {
+            return next.startCall(call, headers);
+        }
+
+        // The transport falls back to identity when the client does not advertise gzip in grpc-accept-encoding
+        call.setCompression(GZIP);
+        int minMessageSize = appProperties.getGrpcCompressionMinMessageSize();
+        return next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                setMessageCompression(!(message instanceof MessageLite messageLite)
+                        || messageLite.getSerializedSize() >= minMessageSize);
+                super.sendMessage(message);
+            }
+        }, headers);
+    }
+
+}
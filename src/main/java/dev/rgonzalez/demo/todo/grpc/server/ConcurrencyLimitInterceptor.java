@@ -0,0 +1,108 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.demo.todo.AppProperties;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ConcurrencyLimitInterceptor implements ServerInterceptor {
+    public static final String IN_FLIGHT_METRIC = "grpc.server.concurrency.in.flight";
+    public static final String QUEUED_METRIC = "grpc.server.concurrency.queued";
+    public static final String REJECTED_METRIC = "grpc.server.concurrency.rejected";
+    private static final String TOO_MANY_REQUESTS = "Too many concurrent requests, try again later";
+    private final AppProperties appProperties;
+    private final MeterRegistry meterRegistry;
+    private Semaphore permits;
+    private Counter rejectedCalls;
+
+    @PostConstruct
+    void init() {
+        int limit = appProperties.getGrpcConcurrencyLimit();
+        permits = new Semaphore(limit, true);
+        Gauge.builder(IN_FLIGHT_METRIC, permits, semaphore -> limit - semaphore.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder(QUEUED_METRIC, permits, Semaphore::getQueueLength)
+                .register(meterRegistry);
+        rejectedCalls = Counter.builder(REJECTED_METRIC)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        if (!tryAcquire()) {
+            rejectedCalls.increment();
+            log.warn("Rejecting {}, concurrency limit reached", call.getMethodDescriptor().getFullMethodName());
+            call.close(Status.RESOURCE_EXHAUSTED.withDescription(TOO_MANY_REQUESTS), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+
+        ServerCall.Listener<ReqT> listener;
+        try {
+            listener = next.startCall(new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                @Override
+                public void close(Status status, Metadata trailers) {
+                    release.run();
+                    super.close(status, trailers);
+                }
+            }, headers);
+        } catch (RuntimeException e) {
+            release.run();
+            throw e;
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onCancel() {
+                release.run();
+                super.onCancel();
+            }
+
+            @Override
+            public void onComplete() {
+                release.run();
+                super.onComplete();
+            }
+        };
+    }
+
+    // Callers wait a short, bounded time for a permit so brief bursts are absorbed instead of rejected
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(appProperties.getGrpcConcurrencyMaxWaitMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package dev.rgonzalez.demo.todo.grpc.server;
 
+import dev.rgonzalez.demo.todo.exceptions.BadRequestException;
 import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
 import io.grpc.ForwardingServerCall;
 import io.grpc.ForwardingServerCallListener;
@@ -57,6 +58,9 @@ public class ErrorHandlingInterceptor implements ServerInterceptor {
                     case IllegalArgumentException e -> Status.INVALID_ARGUMENT
                             .withDescription(e.getMessage())
                             .withCause(e.getCause());
+                    case BadRequestException e -> Status.INVALID_ARGUMENT
+                            .withDescription(e.getMessage())
+                            .withCause(e.getCause());
                     case NotFoundException e -> Status.NOT_FOUND
                             .withDescription(e.getMessage())
                             .withCause(e.getCause());
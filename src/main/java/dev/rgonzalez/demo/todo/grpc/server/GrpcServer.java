@@ -2,8 +2,17 @@ package dev.rgonzalez.demo.todo.grpc.server;
 
 import dev.rgonzalez.demo.todo.AppProperties;
 import dev.rgonzalez.demo.todo.grpc.service.TodoGrpcService;
+import io.grpc.Codec;
+import io.grpc.CompressorRegistry;
 import io.grpc.Server;
-import io.grpc.ServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +21,7 @@ import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
@@ -23,8 +33,15 @@ public class GrpcServer {
     private final AppProperties appProperties;
     private final ExecutorService grpcExecutor;
     private final ErrorHandlingInterceptor errorHandlingInterceptor;
-    public static final int MAX_INBOUND_MESSAGE_SIZE = (100 * 1024 * 1024);
+    private final MetricsInterceptor metricsInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final CompressionInterceptor compressionInterceptor;
+    private final MeteredGzipCompressor meteredGzipCompressor;
+    private final ValidationInterceptor validationInterceptor;
+    public static final int MAX_INBOUND_METADATA_SIZE = (100 * 1024 * 1024);
     private Server server;
+    private EventLoopGroup bossGroup;
+    private EventLoopGroup workerGroup;
 
     @PostConstruct
     void init() {
@@ -49,18 +66,64 @@ public class GrpcServer {
             server.shutdownNow();
             Thread.currentThread().interrupt();
         } finally {
+            shutdownEventLoopGroups();
             log.info("gRPC Server Shutdown complete");
         }
     }
 
     private Server createGrpcServer() {
-        return ServerBuilder.forPort(appProperties.getGrpcPort())
+        boolean epoll = appProperties.isGrpcNettyEpollEnabled() && Epoll.isAvailable();
+        bossGroup = createEventLoopGroup(epoll, appProperties.getGrpcNettyBossThreads(), "grpc-boss");
+        workerGroup = createEventLoopGroup(epoll, appProperties.getGrpcNettyWorkerThreads(), "grpc-worker");
+        log.info("gRPC server using {} transport", epoll ? "epoll" : "nio");
+
+        return NettyServerBuilder.forPort(appProperties.getGrpcPort())
+                .bossEventLoopGroup(bossGroup)
+                .workerEventLoopGroup(workerGroup)
+                .channelType(epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class)
+                .keepAliveTime(appProperties.getGrpcKeepAliveTimeSeconds(), TimeUnit.SECONDS)
+                .keepAliveTimeout(appProperties.getGrpcKeepAliveTimeoutSeconds(), TimeUnit.SECONDS)
+                .permitKeepAliveTime(appProperties.getGrpcPermitKeepAliveTimeSeconds(), TimeUnit.SECONDS)
+                .permitKeepAliveWithoutCalls(appProperties.isGrpcPermitKeepAliveWithoutCalls())
+                .maxConcurrentCallsPerConnection(appProperties.getGrpcMaxConcurrentCallsPerConnection())
+                .flowControlWindow(appProperties.getGrpcFlowControlWindow())
                 .executor(grpcExecutor)
+                .compressorRegistry(createCompressorRegistry())
                 .addService(todoGrpcService)
+                // Added first so it runs last, right before the service, and its rejections are seen by the others
+                .intercept(validationInterceptor)
+                .intercept(compressionInterceptor)
+                .intercept(concurrencyLimitInterceptor)
                 .intercept(errorHandlingInterceptor)
-                .maxInboundMessageSize(MAX_INBOUND_MESSAGE_SIZE)
-                .maxInboundMetadataSize(MAX_INBOUND_MESSAGE_SIZE)
+                // Added last so it runs first and sees the status set by the error handling
+                .intercept(metricsInterceptor)
+                .maxInboundMessageSize(appProperties.getGrpcMaxInboundMessageSize())
+                .maxInboundMetadataSize(MAX_INBOUND_METADATA_SIZE)
                 .build();
     }
 
+    private CompressorRegistry createCompressorRegistry() {
+        CompressorRegistry compressorRegistry = CompressorRegistry.newEmptyInstance();
+        compressorRegistry.register(Codec.Identity.NONE);
+        compressorRegistry.register(meteredGzipCompressor);
+        return compressorRegistry;
+    }
+
+    private EventLoopGroup createEventLoopGroup(boolean epoll, int threads, String name) {
+        DefaultThreadFactory threadFactory = new DefaultThreadFactory(name, true);
+        return epoll
+                ? new EpollEventLoopGroup(threads, threadFactory)
+                : new NioEventLoopGroup(threads, threadFactory);
+    }
+
+    // Event loops passed to the builder are not owned by the server, so they have to be released here
+    private void shutdownEventLoopGroups() {
+        if (Objects.nonNull(bossGroup)) {
+            bossGroup.shutdownGracefully();
+        }
+        if (Objects.nonNull(workerGroup)) {
+            workerGroup.shutdownGracefully();
+        }
+    }
+
 }
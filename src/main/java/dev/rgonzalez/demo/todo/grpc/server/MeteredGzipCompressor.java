@@ -0,0 +1,106 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import io.grpc.Codec;
+import io.grpc.Compressor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class MeteredGzipCompressor implements Compressor {
+    public static final String COMPRESSION_RATIO_METRIC = "grpc.server.compression.ratio";
+    public static final String COMPRESSION_TIME_METRIC = "grpc.server.compression.time";
+    private final Compressor gzip = new Codec.Gzip();
+    private final MeterRegistry meterRegistry;
+    private DistributionSummary compressionRatio;
+    private Timer compressionTime;
+
+    @PostConstruct
+    void init() {
+        compressionRatio = DistributionSummary.builder(COMPRESSION_RATIO_METRIC)
+                .tag("encoding", getMessageEncoding())
+                .register(meterRegistry);
+        compressionTime = Timer.builder(COMPRESSION_TIME_METRIC)
+                .tag("encoding", getMessageEncoding())
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getMessageEncoding() {
+        return gzip.getMessageEncoding();
+    }
+
+    @Override
+    public OutputStream compress(OutputStream os) throws IOException {
+        CountingOutputStream compressed = new CountingOutputStream(os);
+        return new MeteredOutputStream(gzip.compress(compressed), compressed);
+    }
+
+    private class MeteredOutputStream extends FilterOutputStream {
+        private final CountingOutputStream compressed;
+        private long uncompressedBytes;
+        private long elapsedNanos;
+
+        MeteredOutputStream(OutputStream out, CountingOutputStream compressed) {
+            super(out);
+            this.compressed = compressed;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            long start = System.nanoTime();
+            out.write(b);
+            elapsedNanos += System.nanoTime() - start;
+            uncompressedBytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            long start = System.nanoTime();
+            out.write(b, off, len);
+            elapsedNanos += System.nanoTime() - start;
+            uncompressedBytes += len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            long start = System.nanoTime();
+            out.close();
+            elapsedNanos += System.nanoTime() - start;
+            compressionTime.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            if (compressed.count > 0) {
+                compressionRatio.record((double) uncompressedBytes / compressed.count);
+            }
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+}
@@ -0,0 +1,169 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingServerCall;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+public class MetricsInterceptor implements ServerInterceptor {
+    public static final Metadata.Key<String> TRACE_PARENT_HEADER =
+            Metadata.Key.of("traceparent", Metadata.ASCII_STRING_MARSHALLER);
+    public static final Context.Key<String> TRACE_PARENT = Context.key("traceparent");
+    public static final String CALLS_METRIC = "grpc.server.calls";
+    public static final String ACTIVE_CALLS_METRIC = "grpc.server.calls.active";
+    public static final String REQUEST_SIZE_METRIC = "grpc.server.request.size";
+    public static final String RESPONSE_SIZE_METRIC = "grpc.server.response.size";
+    private static final String TRACE_ID_MDC_KEY = "traceId";
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeCalls = new AtomicInteger();
+    // Meters are built once per method (and status) instead of building their id and looking it up in the
+    // registry on every message
+    private final Map<String, DistributionSummary> requestSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+    private final Map<String, Map<Status.Code, Timer>> callTimers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        Gauge.builder(ACTIVE_CALLS_METRIC, activeCalls, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        String method = call.getMethodDescriptor().getFullMethodName();
+        CallMetrics callMetrics = new CallMetrics(method, Timer.start(meterRegistry));
+        activeCalls.incrementAndGet();
+
+        ServerCall<ReqT, RespT> monitoredCall = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+            @Override
+            public void sendMessage(RespT message) {
+                recordSize(responseSizes, RESPONSE_SIZE_METRIC, method, message);
+                super.sendMessage(message);
+            }
+
+            @Override
+            public void close(Status status, Metadata trailers) {
+                callMetrics.finish(status.getCode());
+                super.close(status, trailers);
+            }
+        };
+
+        String traceParent = headers.get(TRACE_PARENT_HEADER);
+        ServerCall.Listener<ReqT> listener = Objects.isNull(traceParent)
+                ? next.startCall(monitoredCall, headers)
+                : Contexts.interceptCall(Context.current().withValue(TRACE_PARENT, traceParent),
+                monitoredCall, headers, next);
+        String traceId = toTraceId(traceParent);
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                recordSize(requestSizes, REQUEST_SIZE_METRIC, method, message);
+                withTraceId(traceId, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                withTraceId(traceId, super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                callMetrics.finish(Status.Code.CANCELLED);
+                withTraceId(traceId, super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                withTraceId(traceId, super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                withTraceId(traceId, super::onReady);
+            }
+        };
+    }
+
+    private void recordSize(Map<String, DistributionSummary> summaries, String metric, String method,
+                            Object message) {
+        if (message instanceof MessageLite messageLite) {
+            summaries.computeIfAbsent(method, key -> DistributionSummary.builder(metric)
+                            .baseUnit("bytes")
+                            .tag("method", key)
+                            .publishPercentileHistogram()
+                            .register(meterRegistry))
+                    .record(messageLite.getSerializedSize());
+        }
+    }
+
+    private Timer callTimer(String method, Status.Code code) {
+        return callTimers.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, key -> Timer.builder(CALLS_METRIC)
+                        .tag("method", method)
+                        .tag("status", key.name())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry));
+    }
+
+    // W3C traceparent: version-traceId-parentId-flags
+    private static String toTraceId(String traceParent) {
+        if (Objects.isNull(traceParent)) {
+            return null;
+        }
+        String[] parts = traceParent.split("-");
+        return parts.length == 4 ? parts[1] : null;
+    }
+
+    private static void withTraceId(String traceId, Runnable callback) {
+        if (Objects.isNull(traceId)) {
+            callback.run();
+            return;
+        }
+        try (MDC.MDCCloseable ignored = MDC.putCloseable(TRACE_ID_MDC_KEY, traceId)) {
+            callback.run();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class CallMetrics {
+        private final String method;
+        private final Timer.Sample sample;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        // A call ends either through close or, when the client goes away first, through cancel
+        void finish(Status.Code code) {
+            if (finished.compareAndSet(false, true)) {
+                activeCalls.decrementAndGet();
+                sample.stop(callTimer(method, code));
+            }
+        }
+    }
+
+}
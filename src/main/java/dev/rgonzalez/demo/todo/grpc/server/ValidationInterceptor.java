@@ -0,0 +1,103 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
+import dev.rgonzalez.proto.todo.client.todo.UpdateTodoRequest;
+import dev.rgonzalez.proto.todo.common.messages.PageRequest;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class ValidationInterceptor implements ServerInterceptor {
+    static final String DESCRIPTION_REQUIRED = "Description is required.";
+    static final String ID_REQUIRED = "Id must be greater than zero.";
+    static final String INVALID_PAGE_REQUEST = "Page cannot be negative and size cannot be less than one";
+    static final String INVALID_CURSOR_REQUEST = "Size cannot be less than one";
+
+    // Rules return the violation message, or null when the request is valid
+    @FunctionalInterface
+    interface RequestValidator<T> {
+        String validate(T request);
+    }
+
+    private static final Map<String, RequestValidator<?>> VALIDATORS = Map.of(
+            TodoServiceGrpc.getCreateMethod().getFullMethodName(),
+            (RequestValidator<CreateTodoRequest>) ValidationInterceptor::validateCreate,
+            TodoServiceGrpc.getUpdateMethod().getFullMethodName(),
+            (RequestValidator<UpdateTodoRequest>) ValidationInterceptor::validateUpdate,
+            TodoServiceGrpc.getListMethod().getFullMethodName(),
+            (RequestValidator<ListTodoRequest>) ValidationInterceptor::validateList,
+            TodoServiceGrpc.getGetMethod().getFullMethodName(),
+            (RequestValidator<GetTodoRequest>) ValidationInterceptor::validateGet
+    );
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(
+            ServerCall<ReqT, RespT> call,
+            Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+
+        var validator = (RequestValidator<ReqT>) VALIDATORS.get(call.getMethodDescriptor().getFullMethodName());
+        if (Objects.isNull(validator)) {
+            return next.startCall(call, headers);
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            private boolean rejected;
+
+            @Override
+            public void onMessage(ReqT message) {
+                String violation = validator.validate(message);
+                if (Objects.nonNull(violation)) {
+                    rejected = true;
+                    call.close(Status.INVALID_ARGUMENT.withDescription(violation), new Metadata());
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            // Unary handlers invoke the service on half close, so a rejected request never reaches it
+            @Override
+            public void onHalfClose() {
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+        };
+    }
+
+    static String validateCreate(CreateTodoRequest request) {
+        return request.getDescription().isEmpty() ? DESCRIPTION_REQUIRED : null;
+    }
+
+    static String validateUpdate(UpdateTodoRequest request) {
+        if (request.getId() < 1) {
+            return ID_REQUIRED;
+        }
+        return request.hasDescription() && request.getDescription().isEmpty() ? DESCRIPTION_REQUIRED : null;
+    }
+
+    static String validateList(ListTodoRequest request) {
+        if (request.hasCursorRequest()) {
+            return request.getCursorRequest().getSize() < 1 ? INVALID_CURSOR_REQUEST : null;
+        }
+        PageRequest pageRequest = request.getPageRequest();
+        return pageRequest.getPage() < 0 || pageRequest.getSize() < 1 ? INVALID_PAGE_REQUEST : null;
+    }
+
+    static String validateGet(GetTodoRequest request) {
+        return request.getId() < 1 ? ID_REQUIRED : null;
+    }
+
+}
@@ -1,32 +1,63 @@
 package dev.rgonzalez.demo.todo.grpc.service;
 
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.grpc.converter.BatchTodoResultProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.CreateTodoRequestProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.CursorPageRequestProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.CursorPagedResultProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.PageRequestProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.PagedResultProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.TodoFilterProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.TodoProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.UpdateTodoRequestProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.service.observer.FlowControlledSender;
+import dev.rgonzalez.demo.todo.grpc.service.observer.ImportTodosRequestObserver;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.service.TodoService;
+import dev.rgonzalez.proto.todo.client.todo.BatchCreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchCreateTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.BatchDeleteResult;
+import dev.rgonzalez.proto.todo.client.todo.BatchDeleteTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchDeleteTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
+import dev.rgonzalez.proto.todo.client.todo.BatchUpdateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchUpdateTodoResponse;
 import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.CreateTodoResponse;
 import dev.rgonzalez.proto.todo.client.todo.DeleteTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.DeleteTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.ExportTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ExportTodoResponse;
 import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.GetTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.ImportSummary;
 import dev.rgonzalez.proto.todo.client.todo.ListTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.SearchTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
 import dev.rgonzalez.proto.todo.client.todo.UpdateTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.UpdateTodoResponse;
 import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
     private final TodoService todoService;
@@ -35,26 +66,63 @@ public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
     private final TodoProtoConverter todoProtoConverter;
     private final CreateTodoRequestProtoConverter createTodoRequestProtoConverter;
     private final UpdateTodoRequestProtoConverter updateTodoRequestProtoConverter;
+    private final CursorPageRequestProtoConverter cursorPageRequestProtoConverter;
+    private final CursorPagedResultProtoConverter cursorPagedResultProtoConverter;
+    private final BatchTodoResultProtoConverter batchTodoResultProtoConverter;
+    private final TodoFilterProtoConverter todoFilterProtoConverter;
+    private final TodoProtoReader todoProtoReader;
+    private final AppProperties appProperties;
+    private final ExecutorService grpcExecutor;
 
     private static final String ERROR_CONVERTING_TODO_TYPE = "Couldn't convert to Todo type";
     private static final String ERROR_CONVERTING_LIST_TODO_TYPE = "Couldn't convert to ListTodoResponse type";
 
     @Override
     public void list(ListTodoRequest request, StreamObserver<ListTodoResponse> responseObserver) {
-        var optionalPageRequest = pageRequestProtoConverter.toModel(request.getPageRequest());
-        if (optionalPageRequest.isPresent()) {
-            var pageRequest = optionalPageRequest.get();
-            PagedResult<Todo> modelPagedResult = todoService.findAll(pageRequest);
+        if (request.hasCursorRequest()) {
+            listByCursor(request, responseObserver);
+            return;
+        }
+        var pageRequest = pageRequestProtoConverter.toModel(request.getPageRequest());
+        if (Objects.nonNull(pageRequest)) {
+            TodoFilter filter = Objects.requireNonNullElseGet(
+                    todoFilterProtoConverter.toModel(request.getFilter()), TodoFilter::none);
+            PagedResult<dev.rgonzalez.proto.todo.common.messages.Todo> protoPagedResult =
+                    todoProtoReader.findAll(filter, pageRequest);
+            sendListTodoResponse(responseObserver, pagedResultProtoConverter.toListTodoResponse(protoPagedResult));
+        } else {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("Invalid PageRequest").asException());
+        }
+    }
+
+    @Override
+    public void search(SearchTodoRequest request, StreamObserver<ListTodoResponse> responseObserver) {
+        var pageRequest = pageRequestProtoConverter.toModel(request.getPageRequest());
+        if (Objects.nonNull(pageRequest)) {
+            PagedResult<Todo> modelPagedResult = todoService.search(request.getQuery(), pageRequest);
             buildListTodoResponse(responseObserver, modelPagedResult);
         } else {
             responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("Invalid PageRequest").asException());
         }
     }
 
+    private void listByCursor(ListTodoRequest request, StreamObserver<ListTodoResponse> responseObserver) {
+        var cursorPageRequest = cursorPageRequestProtoConverter.toModel(request.getCursorRequest());
+        if (Objects.nonNull(cursorPageRequest)) {
+            CursorPagedResult<Todo> modelCursorPagedResult = todoService.findAll(cursorPageRequest);
+            sendListTodoResponse(responseObserver, cursorPagedResultProtoConverter.toProto(modelCursorPagedResult));
+        } else {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("Invalid CursorRequest").asException());
+        }
+    }
+
     private void buildListTodoResponse(StreamObserver<ListTodoResponse> responseObserver, PagedResult<Todo> modelPagedResult) {
-        var listTodoResponse = pagedResultProtoConverter.toProto(modelPagedResult);
-        if (listTodoResponse.isPresent()) {
-            responseObserver.onNext(listTodoResponse.get());
+        sendListTodoResponse(responseObserver, pagedResultProtoConverter.toProto(modelPagedResult));
+    }
+
+    private void sendListTodoResponse(StreamObserver<ListTodoResponse> responseObserver, ListTodoResponse listTodoResponse) {
+        if (Objects.nonNull(listTodoResponse)) {
+            responseObserver.onNext(listTodoResponse);
             responseObserver.onCompleted();
 
         } else {
@@ -64,30 +132,25 @@ public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
 
     @Override
     public void get(GetTodoRequest request, StreamObserver<GetTodoResponse> responseObserver) {
-        Optional<Todo> optionalTodo = todoService.findById(request.getId());
+        // Served from the todo cache like REST, so only the uncached list path maps rows straight to protobuf
+        var optionalTodo = todoService.findById(request.getId());
         if (optionalTodo.isPresent()) {
-            buildGetResponse(responseObserver, optionalTodo.get());
-        } else {
-            responseObserver.onError(Status.NOT_FOUND.withDescription("Todo not found").asException());
-        }
-    }
-
-    private void buildGetResponse(StreamObserver<GetTodoResponse> responseObserver, Todo modelTodo) {
-        var protoTodo = todoProtoConverter.toProto(modelTodo);
-        if (protoTodo.isPresent()) {
-            GetTodoResponse response = GetTodoResponse.newBuilder().setTodo(protoTodo.get()).build();
+            dev.rgonzalez.proto.todo.common.messages.Todo.Builder todoBuilder =
+                    dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+            todoProtoConverter.writeTo(todoBuilder, optionalTodo.get());
+            GetTodoResponse response = GetTodoResponse.newBuilder().setTodo(todoBuilder).build();
             responseObserver.onNext(response);
             responseObserver.onCompleted();
         } else {
-            reportErrorConvertingTypes(responseObserver, ERROR_CONVERTING_TODO_TYPE);
+            responseObserver.onError(Status.NOT_FOUND.withDescription("Todo not found").asException());
         }
     }
 
     @Override
     public void create(CreateTodoRequest request, StreamObserver<CreateTodoResponse> responseObserver) {
         var modelTodo = createTodoRequestProtoConverter.toModel(request);
-        if (modelTodo.isPresent()) {
-            Todo createdModelTodo = todoService.create(modelTodo.get());
+        if (Objects.nonNull(modelTodo)) {
+            Todo createdModelTodo = todoService.create(modelTodo);
             var createdProtoTodo = todoProtoConverter.toProto(createdModelTodo);
             buildCreateResponse(responseObserver, createdProtoTodo);
         } else {
@@ -95,10 +158,10 @@ public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
         }
     }
 
-    private void buildCreateResponse(StreamObserver<CreateTodoResponse> responseObserver, Optional<dev.rgonzalez.proto.todo.common.messages.Todo> createdProtoTodo) {
-        if (createdProtoTodo.isPresent()) {
+    private void buildCreateResponse(StreamObserver<CreateTodoResponse> responseObserver, dev.rgonzalez.proto.todo.common.messages.Todo createdProtoTodo) {
+        if (Objects.nonNull(createdProtoTodo)) {
             CreateTodoResponse response = CreateTodoResponse.newBuilder()
-                    .setTodo(createdProtoTodo.get())
+                    .setTodo(createdProtoTodo)
                     .build();
             responseObserver.onNext(response);
             responseObserver.onCompleted();
@@ -114,8 +177,8 @@ public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
     @Override
     public void update(UpdateTodoRequest request, StreamObserver<UpdateTodoResponse> responseObserver) {
         var modelTodo = updateTodoRequestProtoConverter.toModel(request);
-        if (modelTodo.isPresent()) {
-            Todo updatedModelTodo = todoService.update(modelTodo.get());
+        if (Objects.nonNull(modelTodo)) {
+            Todo updatedModelTodo = todoService.update(modelTodo);
             var updatedProtoTodo = todoProtoConverter.toProto(updatedModelTodo);
             buildUpdateResponse(responseObserver, updatedProtoTodo);
         } else {
@@ -123,10 +186,10 @@ public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
         }
     }
 
-    private void buildUpdateResponse(StreamObserver<UpdateTodoResponse> responseObserver, Optional<dev.rgonzalez.proto.todo.common.messages.Todo> updatedProtoTodo) {
-        if (updatedProtoTodo.isPresent()) {
+    private void buildUpdateResponse(StreamObserver<UpdateTodoResponse> responseObserver, dev.rgonzalez.proto.todo.common.messages.Todo updatedProtoTodo) {
+        if (Objects.nonNull(updatedProtoTodo)) {
             UpdateTodoResponse response = UpdateTodoResponse.newBuilder()
-                    .setTodo(updatedProtoTodo.get())
+                    .setTodo(updatedProtoTodo)
                     .build();
             responseObserver.onNext(response);
             responseObserver.onCompleted();
@@ -143,4 +206,97 @@ public class TodoGrpcService extends TodoServiceGrpc.TodoServiceImplBase {
         responseObserver.onNext(response);
         responseObserver.onCompleted();
     }
+
+    @Override
+    public void batchCreate(BatchCreateTodoRequest request, StreamObserver<BatchCreateTodoResponse> responseObserver) {
+        List<Todo> modelTodos = request.getTodosList()
+                .stream()
+                .map(createTodoRequestProtoConverter::toModel)
+                .filter(Objects::nonNull)
+                .toList();
+        if (modelTodos.size() != request.getTodosCount()) {
+            reportErrorConvertingTypes(responseObserver, ERROR_CONVERTING_TODO_TYPE);
+            return;
+        }
+        List<BatchTodoResult> results = toBatchTodoResults(todoService.createAll(modelTodos));
+        responseObserver.onNext(BatchCreateTodoResponse.newBuilder().addAllResults(results).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchUpdate(BatchUpdateTodoRequest request, StreamObserver<BatchUpdateTodoResponse> responseObserver) {
+        List<Todo> modelTodos = request.getTodosList()
+                .stream()
+                .map(updateTodoRequestProtoConverter::toModel)
+                .filter(Objects::nonNull)
+                .toList();
+        if (modelTodos.size() != request.getTodosCount()) {
+            reportErrorConvertingTypes(responseObserver, ERROR_CONVERTING_TODO_TYPE);
+            return;
+        }
+        List<BatchTodoResult> results = toBatchTodoResults(todoService.updateAll(modelTodos));
+        responseObserver.onNext(BatchUpdateTodoResponse.newBuilder().addAllResults(results).build());
+        responseObserver.onCompleted();
+    }
+
+    private List<BatchTodoResult> toBatchTodoResults(BatchResult<Todo> batchResult) {
+        List<BatchTodoResult> results = new ArrayList<>(batchResult.getResults().size());
+        for (BatchItemResult<Todo> itemResult : batchResult.getResults()) {
+            BatchTodoResult result = batchTodoResultProtoConverter.toProto(itemResult);
+            if (Objects.nonNull(result)) {
+                results.add(result);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void batchDelete(BatchDeleteTodoRequest request, StreamObserver<BatchDeleteTodoResponse> responseObserver) {
+        BatchResult<Integer> batchResult = todoService.deleteAllById(request.getIdsList());
+        BatchDeleteTodoResponse.Builder builder = BatchDeleteTodoResponse.newBuilder();
+        batchResult.getResults().forEach(itemResult -> {
+            BatchDeleteResult.Builder resultBuilder = BatchDeleteResult.newBuilder()
+                    .setIndex(itemResult.getIndex())
+                    .setId(request.getIds(itemResult.getIndex()));
+            Optional.ofNullable(itemResult.getError()).ifPresent(resultBuilder::setError);
+            builder.addResults(resultBuilder.build());
+        });
+        responseObserver.onNext(builder.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<CreateTodoRequest> importTodos(StreamObserver<ImportSummary> responseObserver) {
+        var requestObserver = new ImportTodosRequestObserver(
+                (ServerCallStreamObserver<ImportSummary>) responseObserver,
+                todoService,
+                createTodoRequestProtoConverter,
+                batchTodoResultProtoConverter,
+                Math.min(appProperties.getGrpcImportChunkSize(), appProperties.getBatchMaxSize()));
+        requestObserver.start();
+        return requestObserver;
+    }
+
+    @Override
+    public void export(ExportTodoRequest request, StreamObserver<ExportTodoResponse> responseObserver) {
+        var sender = new FlowControlledSender<>((ServerCallStreamObserver<ExportTodoResponse>) responseObserver);
+        grpcExecutor.execute(() -> exportTodos(sender, responseObserver));
+    }
+
+    private void exportTodos(FlowControlledSender<ExportTodoResponse> sender, StreamObserver<ExportTodoResponse> responseObserver) {
+        try {
+            // Rows are sent one at a time from this thread, so a single builder serves the whole export
+            dev.rgonzalez.proto.todo.common.messages.Todo.Builder todoBuilder =
+                    dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+            todoService.exportAll(todo -> {
+                todoProtoConverter.writeTo(todoBuilder.clear(), todo);
+                sender.send(ExportTodoResponse.newBuilder().setTodo(todoBuilder).build());
+            });
+            responseObserver.onCompleted();
+        } catch (CancellationException e) {
+            log.info("Export stopped: {}", e.getMessage());
+        } catch (Exception e) {
+            responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).asException());
+        }
+    }
 }
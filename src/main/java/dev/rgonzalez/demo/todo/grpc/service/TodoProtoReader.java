@@ -0,0 +1,28 @@
+package dev.rgonzalez.demo.todo.grpc.service;
+
+import dev.rgonzalez.demo.todo.grpc.converter.TodoProtoRowMapper;
+import dev.rgonzalez.demo.todo.model.PageRequest;
+import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import dev.rgonzalez.proto.todo.common.messages.Todo;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+// Reads pages as protobuf messages straight from the rows. It belongs to the gRPC adapter, so TodoService keeps
+// a transport-neutral API, and runs read-only like the service reads so it is served by the reader pool.
+@Component
+@RequiredArgsConstructor
+@Timed(value = "todo.service", histogram = true)
+@Transactional(readOnly = true)
+public class TodoProtoReader {
+    private final TodoRepository todoRepository;
+    private final TodoProtoRowMapper todoProtoRowMapper;
+
+    public PagedResult<Todo> findAll(TodoFilter filter, PageRequest pageRequest) {
+        return todoRepository.findAll(filter, pageRequest, todoProtoRowMapper);
+    }
+
+}
@@ -0,0 +1,53 @@
+package dev.rgonzalez.demo.todo.grpc.service.observer;
+
+import io.grpc.stub.ServerCallStreamObserver;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class FlowControlledSender<T> {
+    private final ServerCallStreamObserver<T> responseObserver;
+    private final Lock lock = new ReentrantLock();
+    private final Condition readyOrCancelled = lock.newCondition();
+
+    public FlowControlledSender(ServerCallStreamObserver<T> responseObserver) {
+        this.responseObserver = responseObserver;
+        responseObserver.setOnReadyHandler(this::signal);
+        responseObserver.setOnCancelHandler(this::signal);
+    }
+
+    // Must not be called from the call's own thread, the onReady notification is delivered on it.
+    public void send(T message) {
+        awaitReady();
+        responseObserver.onNext(message);
+    }
+
+    private void awaitReady() {
+        lock.lock();
+        try {
+            while (!responseObserver.isReady() && !responseObserver.isCancelled()) {
+                readyOrCancelled.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the client");
+        } finally {
+            lock.unlock();
+        }
+        if (responseObserver.isCancelled()) {
+            throw new CancellationException("Call cancelled by the client");
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            readyOrCancelled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package dev.rgonzalez.demo.todo.grpc.service.observer;
+
+import dev.rgonzalez.demo.todo.grpc.converter.BatchTodoResultProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.CreateTodoRequestProtoConverter;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.service.TodoService;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ImportSummary;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+public class ImportTodosRequestObserver implements StreamObserver<CreateTodoRequest> {
+    public static final int MAX_REPORTED_REJECTIONS = 100;
+    private static final String ERROR_CONVERTING_TODO_TYPE = "Couldn't convert to Todo type";
+
+    private final ServerCallStreamObserver<ImportSummary> responseObserver;
+    private final TodoService todoService;
+    private final CreateTodoRequestProtoConverter createTodoRequestProtoConverter;
+    private final BatchTodoResultProtoConverter batchTodoResultProtoConverter;
+    private final int chunkSize;
+    private final List<Todo> chunk;
+    // Stream offset of each todo in the chunk, since rejected messages never make it into a chunk
+    private final List<Integer> chunkOffsets;
+    private final ImportSummary.Builder summary = ImportSummary.newBuilder();
+
+    public ImportTodosRequestObserver(ServerCallStreamObserver<ImportSummary> responseObserver,
+                                      TodoService todoService,
+                                      CreateTodoRequestProtoConverter createTodoRequestProtoConverter,
+                                      BatchTodoResultProtoConverter batchTodoResultProtoConverter,
+                                      int chunkSize) {
+        this.responseObserver = responseObserver;
+        this.todoService = todoService;
+        this.createTodoRequestProtoConverter = createTodoRequestProtoConverter;
+        this.batchTodoResultProtoConverter = batchTodoResultProtoConverter;
+        this.chunkSize = chunkSize;
+        this.chunk = new ArrayList<>(chunkSize);
+        this.chunkOffsets = new ArrayList<>(chunkSize);
+    }
+
+    // Messages are pulled one at a time, so slow commits push back on the client through flow control.
+    public void start() {
+        responseObserver.disableAutoRequest();
+        responseObserver.request(1);
+    }
+
+    @Override
+    public void onNext(CreateTodoRequest request) {
+        int offset = summary.getReceived();
+        summary.setReceived(offset + 1);
+        Todo todo = createTodoRequestProtoConverter.toModel(request);
+        if (Objects.nonNull(todo)) {
+            chunk.add(todo);
+            chunkOffsets.add(offset);
+        } else {
+            reject(offset, ERROR_CONVERTING_TODO_TYPE);
+        }
+        if (chunk.size() >= chunkSize) {
+            commitChunk();
+        }
+        responseObserver.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        log.warn("Import cancelled after {} todos, {} were imported", summary.getReceived(), summary.getImported(),
+                throwable);
+        chunk.clear();
+        chunkOffsets.clear();
+    }
+
+    @Override
+    public void onCompleted() {
+        commitChunk();
+        responseObserver.onNext(summary.build());
+        responseObserver.onCompleted();
+    }
+
+    private void commitChunk() {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        BatchResult<Todo> batchResult = todoService.createAll(chunk);
+        summary.setImported(summary.getImported() + batchResult.getSucceeded());
+        for (BatchItemResult<Todo> itemResult : batchResult.getResults()) {
+            if (!itemResult.isSuccess()) {
+                reject(chunkOffsets.get(itemResult.getIndex()), itemResult.getError());
+            }
+        }
+        chunk.clear();
+        chunkOffsets.clear();
+    }
+
+    private void reject(int offset, String error) {
+        summary.setRejected(summary.getRejected() + 1);
+        if (summary.getRejectionsCount() >= MAX_REPORTED_REJECTIONS) {
+            return;
+        }
+        BatchTodoResult rejection = batchTodoResultProtoConverter.toProto(BatchItemResult.failure(offset, error));
+        if (Objects.nonNull(rejection)) {
+            summary.addRejections(rejection);
+        }
+    }
+
+}
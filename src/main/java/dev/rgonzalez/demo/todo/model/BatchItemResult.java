@@ -0,0 +1,33 @@
+package dev.rgonzalez.demo.todo.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchItemResult<T> {
+    private final int index;
+    private final T result;
+    private final String error;
+
+    public static <T> BatchItemResult<T> success(int index, T result) {
+        return new BatchItemResult<>(index, result, null);
+    }
+
+    public static <T> BatchItemResult<T> failure(int index, String error) {
+        return new BatchItemResult<>(index, null, error);
+    }
+
+    public boolean isSuccess() {
+        return Objects.isNull(error);
+    }
+
+    public <R> BatchItemResult<R> map(Function<T, R> mapper) {
+        return isSuccess() ? success(index, mapper.apply(result)) : failure(index, error);
+    }
+
+}
@@ -0,0 +1,26 @@
+package dev.rgonzalez.demo.todo.model;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class BatchResult<T> {
+    private final List<BatchItemResult<T>> results;
+    private final int succeeded;
+    private final int failed;
+
+    public BatchResult(List<BatchItemResult<T>> results) {
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        this.failed = results.size() - succeeded;
+    }
+
+    public <R> BatchResult<R> map(Function<T, R> mapper) {
+        return new BatchResult<>(results.stream()
+                .map(itemResult -> itemResult.map(mapper))
+                .toList());
+    }
+
+}
@@ -0,0 +1,56 @@
+package dev.rgonzalez.demo.todo.model;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+@Getter
+public class CursorPageRequest {
+    private static final String CURSOR_PREFIX = "id:";
+    private final int afterId;
+    private final int size;
+
+    private CursorPageRequest(int afterId, int size) {
+        this.afterId = afterId;
+        this.size = size;
+    }
+
+    public static CursorPageRequest of(String after, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size cannot be less than one");
+        }
+        return new CursorPageRequest(decodeCursor(after), size);
+    }
+
+    public static CursorPageRequest firstPage() {
+        return new CursorPageRequest(0, PageRequest.DEFAULT_PAGE_SIZE);
+    }
+
+    public static String encodeCursor(int id) {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int decodeCursor(String cursor) {
+        if (Objects.isNull(cursor) || cursor.isBlank()) {
+            return 0;
+        }
+        int afterId;
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            afterId = decodedCursor.startsWith(CURSOR_PREFIX)
+                    ? Integer.parseInt(decodedCursor.substring(CURSOR_PREFIX.length()))
+                    : -1;
+        } catch (IllegalArgumentException e) {
+            afterId = -1;
+        }
+        if (afterId < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return afterId;
+    }
+
+}
@@ -0,0 +1,19 @@
+package dev.rgonzalez.demo.todo.model;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class CursorPagedResult<T> {
+    private final List<T> content;
+    private final String nextCursor;
+    private final int size;
+
+    public CursorPagedResult(List<T> content, String nextCursor, CursorPageRequest cursorPageRequest) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.size = cursorPageRequest.getSize();
+    }
+
+}
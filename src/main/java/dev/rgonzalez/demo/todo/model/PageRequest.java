@@ -7,21 +7,27 @@ public class PageRequest {
     public static final int DEFAULT_PAGE_SIZE = 20;
     private final int page;
     private final int size;
+    private final boolean includeTotals;
 
-    private PageRequest(int page, int size) {
+    private PageRequest(int page, int size, boolean includeTotals) {
         this.page = page;
         this.size = size;
+        this.includeTotals = includeTotals;
     }
 
     public static PageRequest of(int page, int size) {
         if (page < 0 || size < 1) {
             throw new IllegalArgumentException("Page cannot be negative and size cannot be less than one");
         }
-        return new PageRequest(page, size);
+        return new PageRequest(page, size, true);
     }
 
     public static PageRequest firstPage() {
-        return new PageRequest(0, DEFAULT_PAGE_SIZE);
+        return new PageRequest(0, DEFAULT_PAGE_SIZE, true);
+    }
+
+    public PageRequest withoutTotals() {
+        return new PageRequest(page, size, false);
     }
 
     public int getOffset() {
@@ -7,8 +7,8 @@ import java.util.List;
 @Getter
 public class PagedResult<T> {
     private final List<T> content;
-    private final int totalElements;
-    private final int totalPages;
+    private final Integer totalElements;
+    private final Integer totalPages;
     private final int size;
     private final int page;
 
@@ -20,4 +20,12 @@ public class PagedResult<T> {
         this.page = pageRequest.getPage();
     }
 
+    public PagedResult(List<T> content, PageRequest pageRequest) {
+        this.content = content;
+        this.totalElements = null;
+        this.totalPages = null;
+        this.size = pageRequest.getSize();
+        this.page = pageRequest.getPage();
+    }
+
 }
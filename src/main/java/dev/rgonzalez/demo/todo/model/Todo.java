@@ -18,8 +18,11 @@ public class Todo {
     private String description;
     private Priority priority;
     private LocalDate dueDate;
-    private boolean completed;
+    // Null on an update leaves the stored value untouched
+    private Boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
+    private Long version;
 
 }
@@ -0,0 +1,43 @@
+package dev.rgonzalez.demo.todo.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Getter
+@EqualsAndHashCode
+public class TodoFilter {
+    private static final TodoFilter NONE = new TodoFilter(null, null, null, null);
+    private final Boolean completed;
+    private final Priority priority;
+    private final LocalDate dueFrom;
+    private final LocalDate dueTo;
+
+    private TodoFilter(Boolean completed, Priority priority, LocalDate dueFrom, LocalDate dueTo) {
+        this.completed = completed;
+        this.priority = priority;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+    }
+
+    public static TodoFilter of(Boolean completed, Priority priority, LocalDate dueFrom, LocalDate dueTo) {
+        if (Objects.nonNull(dueFrom) && Objects.nonNull(dueTo) && dueFrom.isAfter(dueTo)) {
+            throw new IllegalArgumentException("Due date range start cannot be after its end");
+        }
+        return new TodoFilter(completed, priority, dueFrom, dueTo);
+    }
+
+    public static TodoFilter none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return Objects.isNull(completed)
+                && Objects.isNull(priority)
+                && Objects.isNull(dueFrom)
+                && Objects.isNull(dueTo);
+    }
+
+}
@@ -1,20 +1,32 @@
 package dev.rgonzalez.demo.todo.repository;
 
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface JdbcCrudRepository<T, K> {
     PagedResult<T> findAll(PageRequest pageRequest);
 
+    CursorPagedResult<T> findAll(CursorPageRequest cursorPageRequest);
+
     Optional<T> findById(K id);
 
+    Stream<T> streamAll();
+
     T create(T todo);
 
+    List<T> createAll(List<T> todos);
+
     T update(T todo);
 
     void deleteById(K id);
 
+    List<K> deleteAllById(List<K> ids);
+
     int count();
 }
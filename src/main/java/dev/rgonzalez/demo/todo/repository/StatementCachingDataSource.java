@@ -0,0 +1,261 @@
+package dev.rgonzalez.demo.todo.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps prepared statements open on each physical connection, so SQL that JdbcClient runs again on the same
+// connection skips the driver's prepare step. It has to sit below the pool: the pool borrows and returns the
+// wrapped connections, and their caches live as long as the physical connections.
+public class StatementCachingDataSource extends DelegatingDataSource {
+    public static final String STATEMENT_CACHE_METRIC = "jdbc.statement.cache";
+    public static final String EVICTIONS_METRIC = "jdbc.statement.cache.evictions";
+    public static final String HIT_RATIO_METRIC = "jdbc.statement.cache.hit.ratio";
+
+    private static final Set<String> CONFIGURATION_SETTERS =
+            Set.of("setMaxRows", "setLargeMaxRows", "setQueryTimeout", "setFetchSize", "setMaxFieldSize");
+
+    private final int cacheSize;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public StatementCachingDataSource(DataSource targetDataSource, int cacheSize, MeterRegistry meterRegistry,
+                                      String poolName) {
+        super(targetDataSource);
+        this.cacheSize = cacheSize;
+        this.hits = Counter.builder(STATEMENT_CACHE_METRIC)
+                .tag("pool", poolName)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder(STATEMENT_CACHE_METRIC)
+                .tag("pool", poolName)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder(EVICTIONS_METRIC)
+                .tag("pool", poolName)
+                .register(meterRegistry);
+        Gauge.builder(HIT_RATIO_METRIC, this, StatementCachingDataSource::hitRatio)
+                .tag("pool", poolName)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return cachingConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return cachingConnection(super.getConnection(username, password));
+    }
+
+    private double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups == 0 ? 0 : hits.count() / lookups;
+    }
+
+    private Connection cachingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new CachingConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private class CachingConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        // Only idle statements are kept here: a statement is taken out while in use and put back when closed
+        private final LinkedHashMap<String, PreparedStatement> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+        // Not synchronized, a virtual thread holding a monitor would pin its carrier thread
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        CachingConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "prepareStatement" -> {
+                    if (args.length == 1) {
+                        return prepareStatement((Connection) proxy, (String) args[0]);
+                    }
+                }
+                case "close" -> closeIdleStatements();
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Statement caching connection for " + target;
+                }
+                default -> {
+                }
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private PreparedStatement prepareStatement(Connection proxy, String sql) throws SQLException {
+            PreparedStatement statement;
+            lock.lock();
+            try {
+                statement = idleStatements.remove(sql);
+            } finally {
+                lock.unlock();
+            }
+            if (Objects.nonNull(statement)) {
+                hits.increment();
+            } else {
+                misses.increment();
+                statement = target.prepareStatement(sql);
+            }
+            return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class},
+                    new CachedStatementHandler(this, proxy, sql, statement));
+        }
+
+        private void release(String sql, PreparedStatement statement, boolean configured) throws SQLException {
+            // The statement is not shared yet, so it is reset before taking the lock
+            try {
+                statement.clearParameters();
+                if (configured) {
+                    resetConfiguration(statement);
+                }
+            } catch (SQLException e) {
+                statement.close();
+                return;
+            }
+            PreparedStatement toClose;
+            lock.lock();
+            try {
+                if (closed || idleStatements.containsKey(sql)) {
+                    toClose = statement;
+                } else {
+                    idleStatements.put(sql, statement);
+                    toClose = evictLeastRecentlyUsed();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (Objects.nonNull(toClose)) {
+                toClose.close();
+            }
+        }
+
+        private PreparedStatement evictLeastRecentlyUsed() {
+            if (idleStatements.size() <= cacheSize) {
+                return null;
+            }
+            Iterator<PreparedStatement> leastRecentlyUsed = idleStatements.values().iterator();
+            PreparedStatement evicted = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            evictions.increment();
+            return evicted;
+        }
+
+        private void closeIdleStatements() throws SQLException {
+            List<PreparedStatement> statements;
+            lock.lock();
+            try {
+                closed = true;
+                statements = new ArrayList<>(idleStatements.values());
+                idleStatements.clear();
+            } finally {
+                lock.unlock();
+            }
+            for (PreparedStatement statement : statements) {
+                statement.close();
+            }
+        }
+    }
+
+    // Settings such as JdbcTemplate's max rows or query timeout belong to the caller that set them, not the next one
+    private static void resetConfiguration(PreparedStatement statement) throws SQLException {
+        statement.setMaxRows(0);
+        statement.setQueryTimeout(0);
+        statement.setFetchSize(0);
+        statement.setMaxFieldSize(0);
+    }
+
+    private static class CachedStatementHandler implements InvocationHandler {
+        private final CachingConnectionHandler owner;
+        private final Connection connection;
+        private final String sql;
+        private final PreparedStatement target;
+        private boolean closed;
+        private boolean configured;
+
+        CachedStatementHandler(CachingConnectionHandler owner, Connection connection, String sql,
+                               PreparedStatement target) {
+            this.owner = owner;
+            this.connection = connection;
+            this.sql = sql;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        owner.release(sql, target, configured);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return closed || target.isClosed();
+                }
+                case "getConnection" -> {
+                    return connection;
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "Cached statement for " + target;
+                }
+                default -> {
+                }
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            if (CONFIGURATION_SETTERS.contains(method.getName())) {
+                configured = true;
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+}
@@ -1,36 +1,104 @@
 package dev.rgonzalez.demo.todo.repository;
 
 import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.exceptions.PreconditionFailedException;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Todo;
-import lombok.RequiredArgsConstructor;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.simple.JdbcClient;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Repository
-@RequiredArgsConstructor
+@Timed(value = "todo.repository", histogram = true)
 public class TodoRepository implements JdbcCrudRepository<Todo, Integer> {
     private final JdbcClient jdbcClient;
+    // Registered once per operation, so recording a page size doesn't look the meter up in the registry
+    private final DistributionSummary findAllRows;
+    private final DistributionSummary findAllFilteredRows;
+    private final DistributionSummary searchRows;
+    private final DistributionSummary findAllAfterRows;
     private final Supplier<NotFoundException> notFoundException = () -> new NotFoundException("Todo not found");
+    private static final int BATCH_CHUNK_SIZE = 500;
+    private static final String ROWS_METRIC = "todo.repository.rows";
+    private static final String VERSION_MISMATCH = "Todo has been modified";
+    private static final RowMapper<Todo> TODO_ROW_MAPPER = new TodoRowMapper();
 
     private static final String SQL_FIND_ALL = """
-            SELECT id, description, priority, due_date, completed, created_at, completed_at
+            SELECT id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
               FROM todo_item
              LIMIT :limit OFFSET :offset
             """;
+    // The filter indexes find the page and skip the offset, then each returned row is read from the table. Covering
+    // all nine columns would copy every description into three indexes, so only the count below is index-only
+    private static final String SQL_FIND_ALL_FILTERED = """
+            SELECT id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
+              FROM todo_item
+            %s
+             ORDER BY due_date, id
+             LIMIT :limit OFFSET :offset
+            """;
+    private static final String SQL_COUNT_FILTERED = """
+            SELECT COUNT(*)
+              FROM todo_item
+            %s
+            """;
+    private static final String SQL_SEARCH = """
+            SELECT t.id, t.description, t.priority, t.due_date, t.completed, t.created_at, t.completed_at, t.updated_at, t.version
+              FROM todo_item_fts
+              JOIN todo_item t ON t.id = todo_item_fts.rowid
+             WHERE todo_item_fts MATCH :query
+             ORDER BY todo_item_fts.rank, t.id
+             LIMIT :limit OFFSET :offset
+            """;
+    private static final String SQL_SEARCH_COUNT = """
+            SELECT COUNT(*)
+              FROM todo_item_fts
+             WHERE todo_item_fts MATCH :query
+            """;
+    private static final String SQL_FIND_ALL_AFTER = """
+            SELECT id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
+              FROM todo_item
+             WHERE id > :afterId
+             ORDER BY id
+             LIMIT :limit
+            """;
+    private static final String SQL_STREAM_ALL = """
+            SELECT id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
+              FROM todo_item
+             ORDER BY id
+            """;
     private static final String SQL_CREATE_TODO = """
-            INSERT INTO todo_item (description, priority, due_date)
-            VALUES (:description, :priority, :dueDate)
-            RETURNING id, description, priority, due_date, completed, created_at, completed_at
+            INSERT INTO todo_item (description, priority, due_date, updated_at)
+            VALUES (:description, :priority, :dueDate, CURRENT_TIMESTAMP)
+            RETURNING id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
+            """;
+    private static final String SQL_CREATE_TODOS = """
+            INSERT INTO todo_item (description, priority, due_date, updated_at)
+            VALUES %s
+            RETURNING id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
             """;
     private static final String SQL_FIND_BY_ID = """
-            SELECT id, description, priority, due_date, completed, created_at, completed_at
+            SELECT id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
               FROM todo_item
              WHERE id = :id
             """;
@@ -38,29 +106,165 @@ public class TodoRepository implements JdbcCrudRepository<Todo, Integer> {
             DELETE FROM todo_item
              WHERE id = :id
             """;
+    private static final String SQL_DELETE_BY_ID_AND_VERSION = """
+            DELETE FROM todo_item
+             WHERE id = :id
+               AND version = :version
+            """;
+    private static final String SQL_DELETE_ALL_BY_ID = """
+            DELETE FROM todo_item
+             WHERE id IN (:ids)
+            RETURNING id
+            """;
     private static final String SQL_UPDATE_TODO = """
             UPDATE todo_item
-               SET description = :description,
-                   priority = :priority,
-                   due_date = :dueDate,
-                   completed = :completed,
-                   completed_at = :completed_at
+               SET description = COALESCE(:description, description),
+                   priority = COALESCE(:priority, priority),
+                   due_date = COALESCE(:dueDate, due_date),
+                   completed = COALESCE(:completed, completed),
+                   completed_at = CASE
+                                      WHEN :completed IS NULL OR (:completed AND completed) THEN completed_at
+                                      WHEN :completed THEN :completed_at
+                                  END,
+                   updated_at = CURRENT_TIMESTAMP,
+                   version = version + 1
              WHERE id = :id
-            RETURNING id, description, priority, due_date, completed, created_at, completed_at
+               AND (:version IS NULL OR version = :version)
+            RETURNING id, description, priority, due_date, completed, created_at, completed_at, updated_at, version
             """;
     private static final String SQL_TODO_COUNT = """
-            SELECT COUNT(*) FROM todo_item
+            SELECT total FROM todo_item_count WHERE id = 1
             """;
+    private static final String SQL_TODO_CHANGES = """
+            SELECT changes FROM todo_item_count WHERE id = 1
+            """;
+
+    public TodoRepository(JdbcClient jdbcClient, MeterRegistry meterRegistry) {
+        this.jdbcClient = jdbcClient;
+        this.findAllRows = rowsSummary(meterRegistry, "findAll");
+        this.findAllFilteredRows = rowsSummary(meterRegistry, "findAllFiltered");
+        this.searchRows = rowsSummary(meterRegistry, "search");
+        this.findAllAfterRows = rowsSummary(meterRegistry, "findAllAfter");
+    }
 
     @Override
     public PagedResult<Todo> findAll(PageRequest pageRequest) {
-        int count = count();
-        List<Todo> todoList = jdbcClient.sql(SQL_FIND_ALL)
+        return findAll(pageRequest, TODO_ROW_MAPPER);
+    }
+
+    public <R> PagedResult<R> findAll(PageRequest pageRequest, RowMapper<R> rowMapper) {
+        List<R> todoList = jdbcClient.sql(SQL_FIND_ALL)
                 .param("limit", pageRequest.getSize())
                 .param("offset", pageRequest.getOffset())
-                .query(Todo.class)
+                .query(rowMapper)
                 .list();
-        return new PagedResult<>(todoList, count, pageRequest);
+        findAllRows.record(todoList.size());
+        if (pageRequest.isIncludeTotals()) {
+            return new PagedResult<>(todoList, count(), pageRequest);
+        }
+        return new PagedResult<>(todoList, pageRequest);
+    }
+
+    public PagedResult<Todo> findAll(TodoFilter filter, PageRequest pageRequest) {
+        return findAll(filter, pageRequest, TODO_ROW_MAPPER);
+    }
+
+    // Lets callers map rows straight into their own representation, e.g. protobuf messages for gRPC
+    public <R> PagedResult<R> findAll(TodoFilter filter, PageRequest pageRequest, RowMapper<R> rowMapper) {
+        if (filter.isEmpty()) {
+            return findAll(pageRequest, rowMapper);
+        }
+        Map<String, Object> params = new HashMap<>();
+        String whereClause = toWhereClause(filter, params);
+        List<R> todoList = jdbcClient.sql(toFindAllSql(whereClause))
+                .params(params)
+                .param("limit", pageRequest.getSize())
+                .param("offset", pageRequest.getOffset())
+                .query(rowMapper)
+                .list();
+        findAllFilteredRows.record(todoList.size());
+        if (pageRequest.isIncludeTotals()) {
+            int total = jdbcClient.sql(toCountSql(whereClause))
+                    .params(params)
+                    .query(Integer.class)
+                    .single();
+            return new PagedResult<>(todoList, total, pageRequest);
+        }
+        return new PagedResult<>(todoList, pageRequest);
+    }
+
+    String toFindAllSql(String whereClause) {
+        return SQL_FIND_ALL_FILTERED.formatted(whereClause);
+    }
+
+    String toCountSql(String whereClause) {
+        return SQL_COUNT_FILTERED.formatted(whereClause);
+    }
+
+    // Values are bound in the same textual form the columns are stored in, so the indexes can be used
+    String toWhereClause(TodoFilter filter, Map<String, Object> params) {
+        StringJoiner conditions = new StringJoiner(" AND ", " WHERE ", "");
+        if (Objects.nonNull(filter.getCompleted())) {
+            conditions.add("completed = :completed");
+            params.put("completed", filter.getCompleted());
+        }
+        if (Objects.nonNull(filter.getPriority())) {
+            conditions.add("priority = :priority");
+            params.put("priority", filter.getPriority().name());
+        }
+        if (Objects.nonNull(filter.getDueFrom())) {
+            conditions.add("due_date >= :dueFrom");
+            params.put("dueFrom", filter.getDueFrom().toString());
+        }
+        if (Objects.nonNull(filter.getDueTo())) {
+            conditions.add("due_date <= :dueTo");
+            params.put("dueTo", filter.getDueTo().toString());
+        }
+        return conditions.toString();
+    }
+
+    public PagedResult<Todo> search(String query, PageRequest pageRequest) {
+        String matchExpression = toMatchExpression(query);
+        List<Todo> todoList = jdbcClient.sql(SQL_SEARCH)
+                .param("query", matchExpression)
+                .param("limit", pageRequest.getSize())
+                .param("offset", pageRequest.getOffset())
+                .query(TODO_ROW_MAPPER)
+                .list();
+        searchRows.record(todoList.size());
+        if (pageRequest.isIncludeTotals()) {
+            int total = jdbcClient.sql(SQL_SEARCH_COUNT)
+                    .param("query", matchExpression)
+                    .query(Integer.class)
+                    .single();
+            return new PagedResult<>(todoList, total, pageRequest);
+        }
+        return new PagedResult<>(todoList, pageRequest);
+    }
+
+    // Every term is quoted so user input is never parsed as FTS5 syntax, the last one also matches as a prefix
+    static String toMatchExpression(String query) {
+        List<String> terms = Arrays.stream(query.trim().split("\\s+"))
+                .map(term -> "\"" + term.replace("\"", "\"\"") + "\"")
+                .toList();
+        return String.join(" ", terms) + "*";
+    }
+
+    @Override
+    public CursorPagedResult<Todo> findAll(CursorPageRequest cursorPageRequest) {
+        int size = cursorPageRequest.getSize();
+        List<Todo> todoList = jdbcClient.sql(SQL_FIND_ALL_AFTER)
+                .param("afterId", cursorPageRequest.getAfterId())
+                .param("limit", size + 1)
+                .query(TODO_ROW_MAPPER)
+                .list();
+        findAllAfterRows.record(todoList.size());
+        if (todoList.size() <= size) {
+            return new CursorPagedResult<>(todoList, null, cursorPageRequest);
+        }
+        List<Todo> content = todoList.subList(0, size);
+        String nextCursor = CursorPageRequest.encodeCursor(content.getLast().getId());
+        return new CursorPagedResult<>(content, nextCursor, cursorPageRequest);
     }
 
     @Override
@@ -70,40 +274,85 @@ public class TodoRepository implements JdbcCrudRepository<Todo, Integer> {
                 .singleValue();
     }
 
+    public long changeCount() {
+        return jdbcClient.sql(SQL_TODO_CHANGES)
+                .query(Long.class)
+                .single();
+    }
+
     @Override
     public Optional<Todo> findById(Integer id) {
+        return findById(id, TODO_ROW_MAPPER);
+    }
+
+    public <R> Optional<R> findById(Integer id, RowMapper<R> rowMapper) {
         return jdbcClient.sql(SQL_FIND_BY_ID)
                 .param("id", id)
-                .query(Todo.class)
+                .query(rowMapper)
                 .optional();
     }
 
+    @Override
+    public Stream<Todo> streamAll() {
+        return jdbcClient.sql(SQL_STREAM_ALL)
+                .query(TODO_ROW_MAPPER)
+                .stream();
+    }
+
     @Override
     public Todo create(Todo todo) {
         return jdbcClient.sql(SQL_CREATE_TODO)
                 .param("description", todo.getDescription())
                 .param("priority", todo.getPriority())
                 .param("dueDate", todo.getDueDate())
-                .query(Todo.class)
+                .query(TODO_ROW_MAPPER)
                 .single();
     }
 
     @Override
-    public Todo update(Todo todo) {
-        Todo originalTodo = findById(todo.getId())
-                .orElseThrow(notFoundException);
+    public List<Todo> createAll(List<Todo> todos) {
+        List<Todo> createdTodos = new ArrayList<>(todos.size());
+        for (int from = 0; from < todos.size(); from += BATCH_CHUNK_SIZE) {
+            createdTodos.addAll(createChunk(todos.subList(from, Math.min(from + BATCH_CHUNK_SIZE, todos.size()))));
+        }
+        return createdTodos;
+    }
 
-        Optional<Todo> optionalTodo = jdbcClient.sql(SQL_UPDATE_TODO)
-                .param("id", todo.getId())
-                .param("description", Optional.ofNullable(todo.getDescription()).orElse(originalTodo.getDescription()))
-                .param("priority", Optional.ofNullable(todo.getPriority()).orElse(originalTodo.getPriority()))
-                .param("dueDate", Optional.ofNullable(todo.getDueDate()).orElse(originalTodo.getDueDate()))
-                .param("completed", todo.isCompleted())
-                .param("completed_at", todo.isCompleted() ? LocalDateTime.now() : null)
-                .query(Todo.class)
-                .optional();
+    private List<Todo> createChunk(List<Todo> todos) {
+        StringJoiner values = new StringJoiner(", ");
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            values.add("(:description%1$d, :priority%1$d, :dueDate%1$d, CURRENT_TIMESTAMP)".formatted(i));
+            params.put("description" + i, todo.getDescription());
+            params.put("priority" + i, todo.getPriority());
+            params.put("dueDate" + i, todo.getDueDate());
+        }
+        // RETURNING rows come back in no particular order, ids follow the VALUES order.
+        return jdbcClient.sql(SQL_CREATE_TODOS.formatted(values))
+                .params(params)
+                .query(TODO_ROW_MAPPER)
+                .list()
+                .stream()
+                .sorted(Comparator.comparing(Todo::getId))
+                .toList();
+    }
 
-        return optionalTodo.orElseThrow(notFoundException);
+    @Override
+    public Todo update(Todo todo) {
+        // Absent fields keep their stored value, completing an already completed todo keeps its completion time.
+        // A missing row or a stale version returns nothing.
+        return jdbcClient.sql(SQL_UPDATE_TODO)
+                .param("id", todo.getId())
+                .param("description", todo.getDescription())
+                .param("priority", todo.getPriority())
+                .param("dueDate", todo.getDueDate())
+                .param("completed", todo.getCompleted())
+                .param("completed_at", Boolean.TRUE.equals(todo.getCompleted()) ? LocalDateTime.now() : null)
+                .param("version", todo.getVersion())
+                .query(TODO_ROW_MAPPER)
+                .optional()
+                .orElseThrow(() -> notMatchedException(todo.getId(), todo.getVersion()));
     }
 
     @Override
@@ -116,4 +365,45 @@ public class TodoRepository implements JdbcCrudRepository<Todo, Integer> {
         }
     }
 
+    public void deleteById(Integer id, Long version) {
+        if (Objects.isNull(version)) {
+            deleteById(id);
+            return;
+        }
+        int deletedRows = jdbcClient.sql(SQL_DELETE_BY_ID_AND_VERSION)
+                .param("id", id)
+                .param("version", version)
+                .update();
+        if (deletedRows == 0) {
+            throw notMatchedException(id, version);
+        }
+    }
+
+    // Only looked up when a versioned write matched nothing, to tell a stale version from a missing row
+    private RuntimeException notMatchedException(Integer id, Long version) {
+        if (Objects.nonNull(version) && findById(id).isPresent()) {
+            return new PreconditionFailedException(VERSION_MISMATCH);
+        }
+        return notFoundException.get();
+    }
+
+    @Override
+    public List<Integer> deleteAllById(List<Integer> ids) {
+        List<Integer> deletedIds = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BATCH_CHUNK_SIZE) {
+            deletedIds.addAll(jdbcClient.sql(SQL_DELETE_ALL_BY_ID)
+                    .param("ids", ids.subList(from, Math.min(from + BATCH_CHUNK_SIZE, ids.size())))
+                    .query(Integer.class)
+                    .list());
+        }
+        return deletedIds;
+    }
+
+    private static DistributionSummary rowsSummary(MeterRegistry meterRegistry, String operation) {
+        return DistributionSummary.builder(ROWS_METRIC)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
 }
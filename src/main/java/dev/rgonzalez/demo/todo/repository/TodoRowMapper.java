@@ -0,0 +1,39 @@
+package dev.rgonzalez.demo.todo.repository;
+
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.model.Todo;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// Reads columns by position, so every todo_item SELECT and RETURNING list has to keep this column order
+public class TodoRowMapper implements RowMapper<Todo> {
+    public static final int ID = 1;
+    public static final int DESCRIPTION = 2;
+    public static final int PRIORITY = 3;
+    public static final int DUE_DATE = 4;
+    public static final int COMPLETED = 5;
+    public static final int CREATED_AT = 6;
+    public static final int COMPLETED_AT = 7;
+    public static final int UPDATED_AT = 8;
+    public static final int VERSION = 9;
+
+    @Override
+    public Todo mapRow(ResultSet rs, int rowNum) throws SQLException {
+        String priority = rs.getString(PRIORITY);
+        return new Todo(rs.getInt(ID),
+                rs.getString(DESCRIPTION),
+                Objects.isNull(priority) ? null : Priority.valueOf(priority),
+                rs.getObject(DUE_DATE, LocalDate.class),
+                rs.getBoolean(COMPLETED),
+                rs.getObject(CREATED_AT, LocalDateTime.class),
+                rs.getObject(COMPLETED_AT, LocalDateTime.class),
+                rs.getObject(UPDATED_AT, LocalDateTime.class),
+                rs.getLong(VERSION));
+    }
+
+}
@@ -1,20 +1,59 @@
 package dev.rgonzalez.demo.todo.service;
 
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.config.CachingConfig;
+import dev.rgonzalez.demo.todo.exceptions.BadRequestException;
+import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "todo.service", histogram = true)
 @Transactional(readOnly = true)
+@CacheConfig(cacheNames = CachingConfig.TODOS_CACHE)
 public class DefaultTodoService implements TodoService {
     private final TodoRepository todoRepository;
+    private final GroupCommitWriter groupCommitWriter;
+    private final AppProperties appProperties;
+    // Not available when the todo cache is disabled
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    private static final String DESCRIPTION_REQUIRED = "Description is required.";
+    private static final String TODO_NOT_FOUND = "Todo not found";
+    private static final String SEARCH_QUERY_REQUIRED = "Search query is required.";
+    private static final String BATCH_TOO_LARGE = "Batch cannot contain more than %d items.";
 
     @Override
     public PagedResult<Todo> findAll(PageRequest pageRequest) {
@@ -22,26 +61,151 @@ public class DefaultTodoService implements TodoService {
     }
 
     @Override
+    public PagedResult<Todo> findAll(TodoFilter filter, PageRequest pageRequest) {
+        return todoRepository.findAll(filter, pageRequest);
+    }
+
+    @Override
+    public PagedResult<Todo> search(String query, PageRequest pageRequest) {
+        if (Objects.isNull(query) || query.isBlank()) {
+            throw new BadRequestException(SEARCH_QUERY_REQUIRED);
+        }
+        return todoRepository.search(query, pageRequest);
+    }
+
+    @Override
+    public CursorPagedResult<Todo> findAll(CursorPageRequest cursorPageRequest) {
+        return todoRepository.findAll(cursorPageRequest);
+    }
+
+    @Override
+    @Cacheable(unless = "#result == null")
     public Optional<Todo> findById(Integer id) {
         return todoRepository.findById(id);
     }
 
     @Override
-    @Transactional
+    public long changeCount() {
+        return todoRepository.changeCount();
+    }
+
+    @Override
+    public void exportAll(Consumer<Todo> consumer) {
+        try (Stream<Todo> todos = todoRepository.streamAll()) {
+            todos.forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CachePut(key = "#result.id")
     public Todo create(Todo todo) {
-        return todoRepository.create(todo);
+        return groupCommitWriter.execute(() -> todoRepository.create(todo));
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CachePut(key = "#result.id")
     public Todo update(Todo todo) {
-        return todoRepository.update(todo);
+        return groupCommitWriter.execute(() -> todoRepository.update(todo));
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict
     public void deleteById(Integer id) {
-        todoRepository.deleteById(id);
+        groupCommitWriter.executeWithoutResult(() -> todoRepository.deleteById(id));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(key = "#id")
+    public void deleteById(Integer id, Long version) {
+        groupCommitWriter.executeWithoutResult(() -> todoRepository.deleteById(id, version));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult<Todo> createAll(List<Todo> todos) {
+        checkBatchSize(todos.size());
+        List<BatchItemResult<Todo>> results = new ArrayList<>(Collections.nCopies(todos.size(), null));
+        List<Todo> validTodos = new ArrayList<>(todos.size());
+        List<Integer> validIndexes = new ArrayList<>(todos.size());
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            if (Objects.isNull(todo.getDescription()) || todo.getDescription().isEmpty()) {
+                results.set(i, BatchItemResult.failure(i, DESCRIPTION_REQUIRED));
+            } else {
+                validTodos.add(todo);
+                validIndexes.add(i);
+            }
+        }
+
+        List<Todo> createdTodos = groupCommitWriter.execute(() -> todoRepository.createAll(validTodos));
+        for (int i = 0; i < createdTodos.size(); i++) {
+            int index = validIndexes.get(i);
+            results.set(index, BatchItemResult.success(index, createdTodos.get(i)));
+        }
+        return new BatchResult<>(results);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult<Todo> updateAll(List<Todo> todos) {
+        checkBatchSize(todos.size());
+        BatchResult<Todo> batchResult = groupCommitWriter.execute(() -> {
+            List<BatchItemResult<Todo>> results = new ArrayList<>(todos.size());
+            for (int i = 0; i < todos.size(); i++) {
+                try {
+                    results.add(BatchItemResult.success(i, todoRepository.update(todos.get(i))));
+                } catch (NotFoundException e) {
+                    results.add(BatchItemResult.failure(i, e.getMessage()));
+                }
+            }
+            return new BatchResult<>(results);
+        });
+        todosCache().ifPresent(cache -> {
+            for (BatchItemResult<Todo> result : batchResult.getResults()) {
+                if (result.isSuccess()) {
+                    cache.put(result.getResult().getId(), result.getResult());
+                } else {
+                    cache.evict(todos.get(result.getIndex()).getId());
+                }
+            }
+        });
+        return batchResult;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchResult<Integer> deleteAllById(List<Integer> ids) {
+        checkBatchSize(ids.size());
+        // A repeated id is deleted and reported once, at the index where it first appears
+        Map<Integer, Integer> indexesById = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            indexesById.putIfAbsent(ids.get(i), i);
+        }
+        List<Integer> distinctIds = new ArrayList<>(indexesById.keySet());
+        Set<Integer> deletedIds = new HashSet<>(groupCommitWriter.execute(() -> todoRepository.deleteAllById(distinctIds)));
+        todosCache().ifPresent(cache -> deletedIds.forEach(cache::evict));
+        List<BatchItemResult<Integer>> results = new ArrayList<>(indexesById.size());
+        indexesById.forEach((id, index) -> results.add(deletedIds.contains(id)
+                ? BatchItemResult.success(index, id)
+                : BatchItemResult.failure(index, TODO_NOT_FOUND)));
+        return new BatchResult<>(results);
+    }
+
+    // Batches only touch the cache entries of their own ids instead of clearing the whole cache
+    private Optional<Cache> todosCache() {
+        return Optional.ofNullable(cacheManager.getIfAvailable())
+                .map(manager -> manager.getCache(CachingConfig.TODOS_CACHE));
+    }
+
+    // A batch runs as one transaction on the single writer connection, so its size bounds how long other writes wait
+    private void checkBatchSize(int size) {
+        if (size > appProperties.getBatchMaxSize()) {
+            throw new BadRequestException(BATCH_TOO_LARGE.formatted(appProperties.getBatchMaxSize()));
+        }
     }
 
 }
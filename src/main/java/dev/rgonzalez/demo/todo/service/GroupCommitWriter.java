@@ -0,0 +1,168 @@
+package dev.rgonzalez.demo.todo.service;
+
+import dev.rgonzalez.demo.todo.AppProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class GroupCommitWriter {
+    private final PlatformTransactionManager transactionManager;
+    private final AppProperties appProperties;
+    private TransactionTemplate transactionTemplate;
+    private BlockingQueue<Mutation<?>> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private static final String WRITER_NOT_RUNNING = "Writer is not running";
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        queue = new ArrayBlockingQueue<>(appProperties.getWriterQueueCapacity());
+        running = true;
+        writerThread = Thread.ofPlatform()
+                .name("todo-writer")
+                .daemon()
+                .start(this::processMutations);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(appProperties.getTerminationGracePeriodSeconds()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        // Mutations issued from inside another mutation are already part of the current group
+        if (Thread.currentThread() == writerThread) {
+            return action.get();
+        }
+        if (!running) {
+            throw new IllegalStateException(WRITER_NOT_RUNNING);
+        }
+
+        Mutation<T> mutation = new Mutation<>(action, new CompletableFuture<>());
+        try {
+            queue.put(mutation);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a write", e);
+        }
+        // The writer may have stopped and drained the queue between the check above and the put. Whoever removes
+        // the mutation from the queue, this thread or the drain, is the one failing it.
+        if (!running && queue.remove(mutation)) {
+            mutation.future().completeExceptionally(new IllegalStateException(WRITER_NOT_RUNNING));
+        }
+
+        try {
+            return mutation.future().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void executeWithoutResult(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    private void processMutations() {
+        int maxGroupSize = appProperties.getWriterGroupMaxSize();
+        long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(appProperties.getWriterGroupMaxDelayMillis());
+        List<Mutation<?>> group = new ArrayList<>(maxGroupSize);
+        try {
+            while (running) {
+                try {
+                    group.add(queue.take());
+                    long deadline = System.nanoTime() + maxDelayNanos;
+                    while (group.size() < maxGroupSize) {
+                        Mutation<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        group.add(next);
+                    }
+                } catch (InterruptedException e) {
+                    log.debug("Writer interrupted, committing {} pending mutations", group.size());
+                }
+                commit(group);
+                group.clear();
+            }
+        } finally {
+            // Whatever stops the loop, nothing is accepted afterwards and nobody is left waiting on the queue
+            running = false;
+            queue.drainTo(group);
+            group.forEach(mutation -> mutation.future().completeExceptionally(
+                    new IllegalStateException(WRITER_NOT_RUNNING)));
+        }
+    }
+
+    private void commit(List<Mutation<?>> group) {
+        if (group.isEmpty()) {
+            return;
+        }
+
+        List<Runnable> completions = new ArrayList<>(group.size());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Mutation<?> mutation : group) {
+                    completions.add(mutation.apply(status));
+                }
+            });
+        } catch (Throwable e) {
+            // Errors are caught too, the writer thread has to outlive a failed group or every later caller hangs
+            log.error("Error committing a group of {} mutations", group.size(), e);
+            group.forEach(mutation -> mutation.future().completeExceptionally(e));
+            return;
+        }
+        // Callers are only released once their changes are durable
+        completions.forEach(Runnable::run);
+    }
+
+    private record Mutation<T>(Supplier<T> action, CompletableFuture<T> future) {
+
+        Runnable apply(TransactionStatus status) {
+            Object savepoint = status.createSavepoint();
+            try {
+                T result = action.get();
+                status.releaseSavepoint(savepoint);
+                return () -> future.complete(result);
+            } catch (RuntimeException e) {
+                status.rollbackToSavepoint(savepoint);
+                return () -> future.completeExceptionally(e);
+            }
+        }
+
+    }
+
+}
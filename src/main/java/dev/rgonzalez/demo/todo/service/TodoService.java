@@ -1,17 +1,33 @@
 package dev.rgonzalez.demo.todo.service;
 
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TodoService {
     PagedResult<Todo> findAll(PageRequest pageRequest);
 
+    PagedResult<Todo> findAll(TodoFilter filter, PageRequest pageRequest);
+
+    PagedResult<Todo> search(String query, PageRequest pageRequest);
+
+    CursorPagedResult<Todo> findAll(CursorPageRequest cursorPageRequest);
+
     Optional<Todo> findById(Integer id);
 
+    long changeCount();
+
+    void exportAll(Consumer<Todo> consumer);
+
     @Transactional
     Todo create(Todo todo);
 
@@ -20,4 +36,16 @@ public interface TodoService {
 
     @Transactional
     void deleteById(Integer id);
+
+    @Transactional
+    void deleteById(Integer id, Long version);
+
+    @Transactional
+    BatchResult<Todo> createAll(List<Todo> todos);
+
+    @Transactional
+    BatchResult<Todo> updateAll(List<Todo> todos);
+
+    @Transactional
+    BatchResult<Integer> deleteAllById(List<Integer> ids);
 }
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS todo_item
+(
+    id           INTEGER PRIMARY KEY AUTOINCREMENT,
+    description  TEXT      NOT NULL,
+    priority     TEXT,
+    due_date     DATE,
+    completed    BOOLEAN   NOT NULL DEFAULT FALSE,
+    created_at   TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
@@ -0,0 +1,25 @@
+-- Single-row table holding the number of rows in todo_item, so that totals
+-- can be read in O(1) instead of running COUNT(*) over the whole table.
+CREATE TABLE todo_item_count
+(
+    id    INTEGER PRIMARY KEY CHECK (id = 1),
+    total INTEGER NOT NULL
+);
+
+INSERT INTO todo_item_count (id, total)
+SELECT 1, COUNT(*)
+  FROM todo_item;
+
+CREATE TRIGGER todo_item_count_after_insert
+    AFTER INSERT
+    ON todo_item
+BEGIN
+    UPDATE todo_item_count SET total = total + 1 WHERE id = 1;
+END;
+
+CREATE TRIGGER todo_item_count_after_delete
+    AFTER DELETE
+    ON todo_item
+BEGIN
+    UPDATE todo_item_count SET total = total - 1 WHERE id = 1;
+END;
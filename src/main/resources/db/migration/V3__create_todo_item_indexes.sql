@@ -0,0 +1,11 @@
+-- Indexes backing the filters accepted by the list endpoints. Every index ends
+-- with due_date so that filtered pages, sorted by (due_date, id), are read in
+-- index order without a temporary sort.
+CREATE INDEX IF NOT EXISTS idx_todo_item_completed_due_date
+    ON todo_item (completed, due_date);
+
+CREATE INDEX IF NOT EXISTS idx_todo_item_priority_due_date
+    ON todo_item (priority, due_date);
+
+CREATE INDEX IF NOT EXISTS idx_todo_item_due_date
+    ON todo_item (due_date);
@@ -0,0 +1,33 @@
+-- External-content FTS5 index over todo_item.description. The triggers keep it
+-- in sync with todo_item, so the text itself is only stored once.
+CREATE VIRTUAL TABLE todo_item_fts USING fts5
+(
+    description,
+    content = 'todo_item',
+    content_rowid = 'id'
+);
+
+INSERT INTO todo_item_fts (todo_item_fts)
+VALUES ('rebuild');
+
+CREATE TRIGGER todo_item_fts_after_insert
+    AFTER INSERT
+    ON todo_item
+BEGIN
+    INSERT INTO todo_item_fts (rowid, description) VALUES (new.id, new.description);
+END;
+
+CREATE TRIGGER todo_item_fts_after_delete
+    AFTER DELETE
+    ON todo_item
+BEGIN
+    INSERT INTO todo_item_fts (todo_item_fts, rowid, description) VALUES ('delete', old.id, old.description);
+END;
+
+CREATE TRIGGER todo_item_fts_after_update
+    AFTER UPDATE OF description
+    ON todo_item
+BEGIN
+    INSERT INTO todo_item_fts (todo_item_fts, rowid, description) VALUES ('delete', old.id, old.description);
+    INSERT INTO todo_item_fts (rowid, description) VALUES (new.id, new.description);
+END;
@@ -0,0 +1,35 @@
+-- Per-row version and modification time, used for ETag/Last-Modified and
+-- If-Match checks on single todos.
+ALTER TABLE todo_item ADD COLUMN version INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE todo_item ADD COLUMN updated_at TIMESTAMP;
+
+UPDATE todo_item
+   SET updated_at = COALESCE(completed_at, created_at);
+
+-- Table-wide change counter, bumped by every write, so that collection
+-- responses can be validated with a single-row read.
+ALTER TABLE todo_item_count ADD COLUMN changes INTEGER NOT NULL DEFAULT 0;
+
+DROP TRIGGER todo_item_count_after_insert;
+DROP TRIGGER todo_item_count_after_delete;
+
+CREATE TRIGGER todo_item_count_after_insert
+    AFTER INSERT
+    ON todo_item
+BEGIN
+    UPDATE todo_item_count SET total = total + 1, changes = changes + 1 WHERE id = 1;
+END;
+
+CREATE TRIGGER todo_item_count_after_delete
+    AFTER DELETE
+    ON todo_item
+BEGIN
+    UPDATE todo_item_count SET total = total - 1, changes = changes + 1 WHERE id = 1;
+END;
+
+CREATE TRIGGER todo_item_count_after_update
+    AFTER UPDATE
+    ON todo_item
+BEGIN
+    UPDATE todo_item_count SET changes = changes + 1 WHERE id = 1;
+END;
@@ -0,0 +1,13 @@
+-- The update always sets description, COALESCE-ing it to the stored value when
+-- the request leaves it out, so the FTS row is only rewritten when the text
+-- actually changes.
+DROP TRIGGER todo_item_fts_after_update;
+
+CREATE TRIGGER todo_item_fts_after_update
+    AFTER UPDATE OF description
+    ON todo_item
+    WHEN old.description IS NOT new.description
+BEGIN
+    INSERT INTO todo_item_fts (todo_item_fts, rowid, description) VALUES ('delete', old.id, old.description);
+    INSERT INTO todo_item_fts (rowid, description) VALUES (new.id, new.description);
+END;
@@ -0,0 +1,62 @@
+package dev.rgonzalez.demo.todo.api.compression;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class CompressionMetricsValveTest {
+
+    @Mock
+    private Request request;
+
+    @Mock
+    private Response response;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CompressionMetricsValve compressionMetricsValve;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        compressionMetricsValve = new CompressionMetricsValve(meterRegistry);
+    }
+
+    @Test
+    void shouldRecordTheRatioOfACompressedResponse() {
+        // Given
+        when(response.getHeader("Content-Encoding")).thenReturn("gzip");
+        when(response.getContentWritten()).thenReturn(4000L);
+        when(response.getBytesWritten(false)).thenReturn(1000L);
+
+        // When
+        compressionMetricsValve.log(request, response, 0);
+
+        // Then
+        assertThat(meterRegistry.get(CompressionMetricsValve.COMPRESSION_RATIO_METRIC)
+                .tag("encoding", "gzip").summary().totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    void shouldIgnoreUncompressedResponses() {
+        // Given
+        when(response.getContentWritten()).thenReturn(200L);
+        when(response.getBytesWritten(false)).thenReturn(200L);
+
+        // When
+        compressionMetricsValve.log(request, response, 0);
+
+        // Then
+        assertThat(meterRegistry.get(CompressionMetricsValve.COMPRESSION_RATIO_METRIC)
+                .summary().count()).isZero();
+    }
+
+}
@@ -1,14 +1,27 @@
 package dev.rgonzalez.demo.todo.api.controller;
 
 import dev.rgonzalez.demo.todo.api.converter.TodoDTOConverter;
+import dev.rgonzalez.demo.todo.api.domain.BatchCreateTodoRequest;
+import dev.rgonzalez.demo.todo.api.domain.BatchDeleteTodoRequest;
+import dev.rgonzalez.demo.todo.api.domain.BatchUpdateTodoItem;
+import dev.rgonzalez.demo.todo.api.domain.BatchUpdateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.CreateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
+import dev.rgonzalez.demo.todo.api.export.ExportFormat;
+import dev.rgonzalez.demo.todo.api.export.TodoExportWriter;
 import dev.rgonzalez.demo.todo.api.domain.UpdateTodoRequest;
+import dev.rgonzalez.demo.todo.exceptions.BadRequestException;
 import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.exceptions.PreconditionFailedException;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.service.TodoService;
 import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,20 +30,28 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -42,13 +63,18 @@ class TodoControllerTest {
     private TodoService todoService;
     @Mock
     private TodoDTOConverter converter;
+    @Mock
+    private TodoExportWriter exportWriter;
 
     @InjectMocks
     private TodoController todoController;
 
+    private ServletWebRequest webRequest;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/todos"), new MockHttpServletResponse());
     }
 
     @Test
@@ -59,30 +85,140 @@ class TodoControllerTest {
         int totalElements = 150;
         PagedResult<Todo> todoPagedResult = TodoTestFactory.createPagedResultOfTodos(page, size, totalElements);
         PagedResult<TodoDTO> todoDTOPagedResult = TodoTestFactory.createPagedResultOfTodoDTOs(page, size, totalElements);
-        when(todoService.findAll(any(PageRequest.class)))
+        when(todoService.findAll(any(TodoFilter.class), any(PageRequest.class)))
                 .thenReturn(todoPagedResult);
         when(converter.toDTO(todoPagedResult))
                 .thenReturn(todoDTOPagedResult);
 
         // When
-        PagedResult<TodoDTO> pagedResult = todoController.findAll(page, size);
+        PagedResult<TodoDTO> pagedResult = todoController.findAll(webRequest, page, size, true, null, null, null, null);
 
         // Then
         ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
-        verify(todoService).findAll(pageRequestCaptor.capture());
+        verify(todoService).findAll(any(TodoFilter.class), pageRequestCaptor.capture());
         PageRequest pageRequest = pageRequestCaptor.getValue();
         assertThat(pageRequest.getPage()).isEqualTo(page);
         assertThat(pageRequest.getSize()).isEqualTo(size);
+        assertThat(pageRequest.isIncludeTotals()).isTrue();
         verify(converter).toDTO(todoPagedResult);
         assertThat(pagedResult.getContent()).hasSameSizeAs(todoPagedResult.getContent());
     }
 
+    @Test
+    void shouldFindAPageOfTodosWithoutTotals() {
+        // Given
+        int page = 1;
+        int size = 5;
+        PagedResult<Todo> todoPagedResult = new PagedResult<>(TodoTestFactory.createTodoList(),
+                PageRequest.of(page, size).withoutTotals());
+        PagedResult<TodoDTO> todoDTOPagedResult = new PagedResult<>(TodoTestFactory.createTodoDTOList(),
+                PageRequest.of(page, size).withoutTotals());
+        when(todoService.findAll(any(TodoFilter.class), any(PageRequest.class)))
+                .thenReturn(todoPagedResult);
+        when(converter.toDTO(todoPagedResult))
+                .thenReturn(todoDTOPagedResult);
+
+        // When
+        PagedResult<TodoDTO> pagedResult = todoController.findAll(webRequest, page, size, false, null, null, null, null);
+
+        // Then
+        ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
+        verify(todoService).findAll(any(TodoFilter.class), pageRequestCaptor.capture());
+        assertThat(pageRequestCaptor.getValue().isIncludeTotals()).isFalse();
+        assertThat(pagedResult.getTotalElements()).isNull();
+        assertThat(pagedResult.getTotalPages()).isNull();
+    }
+
+    @Test
+    void shouldNotQueryTodosWhenCollectionETagMatches() {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/todos");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "W/\"7\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        when(todoService.changeCount()).thenReturn(7L);
+
+        // When
+        PagedResult<TodoDTO> pagedResult = todoController.findAll(new ServletWebRequest(request, response),
+                0, 20, true, null, null, null, null);
+
+        // Then
+        assertThat(pagedResult).isNull();
+        assertThat(response.getStatus()).isEqualTo(304);
+        verify(todoService, never()).findAll(any(TodoFilter.class), any(PageRequest.class));
+    }
+
+    @Test
+    void shouldSearchTodos() {
+        // Given
+        int page = 0;
+        int size = 5;
+        PagedResult<Todo> todoPagedResult = TodoTestFactory.createPagedResultOfTodos(page, size, 5);
+        PagedResult<TodoDTO> todoDTOPagedResult = TodoTestFactory.createPagedResultOfTodoDTOs(page, size, 5);
+        when(todoService.search(eq("task"), any(PageRequest.class)))
+                .thenReturn(todoPagedResult);
+        when(converter.toDTO(todoPagedResult))
+                .thenReturn(todoDTOPagedResult);
+
+        // When
+        PagedResult<TodoDTO> pagedResult = todoController.search("task", page, size, true);
+
+        // Then
+        ArgumentCaptor<PageRequest> pageRequestCaptor = ArgumentCaptor.forClass(PageRequest.class);
+        verify(todoService).search(eq("task"), pageRequestCaptor.capture());
+        assertThat(pageRequestCaptor.getValue().getSize()).isEqualTo(size);
+        assertThat(pagedResult).isEqualTo(todoDTOPagedResult);
+    }
+
+    @Test
+    void shouldFindAPageOfTodosAfterACursor() {
+        // Given
+        String after = CursorPageRequest.encodeCursor(42);
+        int size = 5;
+        CursorPagedResult<Todo> todoCursorPagedResult = TodoTestFactory.createCursorPagedResultOfTodos(size, "bmV4dA");
+        CursorPagedResult<TodoDTO> todoDTOCursorPagedResult = TodoTestFactory.createCursorPagedResultOfTodoDTOs(size, "bmV4dA");
+        when(todoService.findAll(any(CursorPageRequest.class)))
+                .thenReturn(todoCursorPagedResult);
+        when(converter.toDTO(todoCursorPagedResult))
+                .thenReturn(todoDTOCursorPagedResult);
+
+        // When
+        CursorPagedResult<TodoDTO> cursorPagedResult = todoController.findAllAfter(after, size);
+
+        // Then
+        ArgumentCaptor<CursorPageRequest> cursorPageRequestCaptor = ArgumentCaptor.forClass(CursorPageRequest.class);
+        verify(todoService).findAll(cursorPageRequestCaptor.capture());
+        CursorPageRequest cursorPageRequest = cursorPageRequestCaptor.getValue();
+        assertThat(cursorPageRequest.getAfterId()).isEqualTo(42);
+        assertThat(cursorPageRequest.getSize()).isEqualTo(size);
+        verify(converter).toDTO(todoCursorPagedResult);
+        assertThat(cursorPagedResult.getNextCursor()).isEqualTo("bmV4dA");
+        assertThat(cursorPagedResult.getContent()).hasSameSizeAs(todoCursorPagedResult.getContent());
+    }
+
+    @Test
+    void shouldRejectAMalformedCursor() {
+        // When & Then
+        assertThatThrownBy(() -> todoController.findAllAfter("not-a-cursor", 5))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Invalid cursor");
+        verify(todoService, never()).findAll(any(CursorPageRequest.class));
+    }
+
+    @Test
+    void shouldRejectAnInvertedDueDateRange() {
+        // When & Then
+        assertThatThrownBy(() -> TodoController.toTodoFilter(null, null,
+                LocalDate.of(2024, 6, 1), LocalDate.of(2024, 5, 1)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Due date range start cannot be after its end");
+    }
+
     @Test
     void shouldFindTodoById() {
         // Given
         Integer id = 10;
         Todo todo = new Todo(10, "My Task ID 10", Priority.MEDIUM,
-                LocalDate.of(2024, 5, 18), false, LocalDateTime.now(), null);
+                LocalDate.of(2024, 5, 18), false, LocalDateTime.now(), null, null, 1L);
         TodoDTO todoDTO = new TodoDTO(10, "My Task ID 10", Priority.MEDIUM,
                 LocalDate.of(2024, 5, 18), false, LocalDateTime.now(), null);
         when(todoService.findById(id)).thenReturn(Optional.of(todo));
@@ -99,6 +235,24 @@ class TodoControllerTest {
         assertThat(responseEntity.getBody()).isEqualTo(todoDTO);
     }
 
+    @Test
+    void shouldReturnVersionAsETagWhenFindingTodoById() {
+        // Given
+        Integer id = 10;
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 5, 12, 18, 30);
+        Todo todo = new Todo(10, "My Task ID 10", Priority.MEDIUM,
+                null, false, LocalDateTime.now(), null, updatedAt, 5L);
+        when(todoService.findById(id)).thenReturn(Optional.of(todo));
+
+        // When
+        ResponseEntity<TodoDTO> responseEntity = todoController.findById(id);
+
+        // Then
+        assertThat(responseEntity.getHeaders().getETag()).isEqualTo("\"5\"");
+        assertThat(responseEntity.getHeaders().getLastModified())
+                .isEqualTo(updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
     @Test
     void shouldReturnNotFoundStatusWhenFindingByNonExistingId() {
         // Given
@@ -173,9 +327,9 @@ class TodoControllerTest {
         LocalDateTime completedAt = LocalDateTime.now();
         UpdateTodoRequest request = new UpdateTodoRequest(description, null, null, true);
         Todo todoToBeUpdated = new Todo(id, description, Priority.MEDIUM,
-                dueDate, true, createdAt, null);
+                dueDate, true, createdAt, null, null, 1L);
         Todo updatedTodo = new Todo(id, description, Priority.MEDIUM,
-                dueDate, true, createdAt, completedAt);
+                dueDate, true, createdAt, completedAt, null, 1L);
         TodoDTO todoDTO = new TodoDTO(id, description, Priority.MEDIUM,
                 dueDate, true, createdAt, completedAt);
         when(converter.toModel(id, request)).thenReturn(todoToBeUpdated);
@@ -183,7 +337,7 @@ class TodoControllerTest {
         when(converter.toDTO(updatedTodo)).thenReturn(todoDTO);
 
         // When
-        ResponseEntity<TodoDTO> responseEntity = todoController.update(id, request);
+        ResponseEntity<TodoDTO> responseEntity = todoController.update(id, null, request);
 
         // Then
         verify(converter).toModel(id, request);
@@ -202,13 +356,13 @@ class TodoControllerTest {
         LocalDateTime createdAt = LocalDateTime.of(2024, 5, 10, 9, 0);
         UpdateTodoRequest request = new UpdateTodoRequest(description, null, null, true);
         Todo todoToBeUpdated = new Todo(id, description, Priority.MEDIUM,
-                LocalDate.of(2024, 5, 18), true, createdAt, null);
+                LocalDate.of(2024, 5, 18), true, createdAt, null, null, 1L);
 
         when(converter.toModel(id, request)).thenReturn(todoToBeUpdated);
         doThrow(new NotFoundException("Todo not found")).when(todoService).update(todoToBeUpdated);
 
         // When
-        assertThatThrownBy(() -> todoController.update(id, request))
+        assertThatThrownBy(() -> todoController.update(id, null, request))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Todo not found");
 
@@ -217,17 +371,47 @@ class TodoControllerTest {
     }
 
 
+    @Test
+    void shouldUseIfMatchAsExpectedVersionWhenUpdatingTodo() {
+        // Given
+        Integer id = 15;
+        UpdateTodoRequest request = new UpdateTodoRequest("Todo to be updated", null, null, null);
+        Todo todoToBeUpdated = Todo.builder().id(id).description("Todo to be updated").build();
+        Todo updatedTodo = Todo.builder().id(id).description("Todo to be updated").version(4L).build();
+        when(converter.toModel(id, request)).thenReturn(todoToBeUpdated);
+        when(todoService.update(todoToBeUpdated)).thenReturn(updatedTodo);
+
+        // When
+        ResponseEntity<TodoDTO> responseEntity = todoController.update(id, "\"3\"", request);
+
+        // Then
+        assertThat(todoToBeUpdated.getVersion()).isEqualTo(3L);
+        assertThat(responseEntity.getHeaders().getETag()).isEqualTo("\"4\"");
+    }
+
+    @Test
+    void shouldParseIfMatchHeaderIntoExpectedVersion() {
+        // When & Then
+        assertThat(TodoController.toExpectedVersion(null)).isNull();
+        assertThat(TodoController.toExpectedVersion("*")).isNull();
+        assertThat(TodoController.toExpectedVersion("\"12\"")).isEqualTo(12L);
+        assertThatThrownBy(() -> TodoController.toExpectedVersion("W/\"12\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> TodoController.toExpectedVersion("\"abc\""))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+
     @Test
     void shouldDeleteTodo() {
         // Given
         Integer id = 11;
-        doNothing().when(todoService).deleteById(id);
+        doNothing().when(todoService).deleteById(id, null);
 
         // When
-        ResponseEntity<Void> responseEntity = todoController.delete(id);
+        ResponseEntity<Void> responseEntity = todoController.delete(id, null);
 
         // Then
-        verify(todoService).deleteById(id);
+        verify(todoService).deleteById(id, null);
         assertThat(responseEntity).isNotNull();
         assertThat(responseEntity.getStatusCode().is2xxSuccessful()).isTrue();
         assertThat(responseEntity.getBody()).isNull();
@@ -237,14 +421,105 @@ class TodoControllerTest {
     void shouldThrowNotFoundExceptionWhenDeletingNonExistingTodo() {
         // Given
         Integer id = 13;
-        doThrow(new NotFoundException("Todo not found")).when(todoService).deleteById(id);
+        doThrow(new NotFoundException("Todo not found")).when(todoService).deleteById(id, null);
 
         // When
-        assertThatThrownBy(() -> todoController.delete(id))
+        assertThatThrownBy(() -> todoController.delete(id, null))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage("Todo not found");
 
         // Then
-        verify(todoService).deleteById(id);
+        verify(todoService).deleteById(id, null);
+    }
+
+    @Test
+    void shouldCreateAllTodos() {
+        // Given
+        CreateTodoRequest request = new CreateTodoRequest("Task A", Priority.LOW, null);
+        Todo todo = Todo.builder().description("Task A").priority(Priority.LOW).build();
+        Todo createdTodo = new Todo(21, "Task A", Priority.LOW, null, false, LocalDateTime.now(), null, null, 1L);
+        BatchResult<Todo> batchResult = new BatchResult<>(List.of(BatchItemResult.success(0, createdTodo)));
+        BatchResult<TodoDTO> batchResultDTO = new BatchResult<>(List.of(BatchItemResult.success(0,
+                new TodoDTO(21, "Task A", Priority.LOW, null, false, createdTodo.getCreatedAt(), null))));
+        when(converter.toModel(request)).thenReturn(todo);
+        when(todoService.createAll(List.of(todo))).thenReturn(batchResult);
+        when(converter.toDTO(batchResult)).thenReturn(batchResultDTO);
+
+        // When
+        ResponseEntity<BatchResult<TodoDTO>> responseEntity = todoController.createAll(
+                new BatchCreateTodoRequest(List.of(request)));
+
+        // Then
+        verify(todoService).createAll(List.of(todo));
+        assertThat(responseEntity.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(responseEntity.getBody()).isEqualTo(batchResultDTO);
+    }
+
+    @Test
+    void shouldUpdateAllTodos() {
+        // Given
+        BatchUpdateTodoItem item = new BatchUpdateTodoItem(21, null, null, null, true);
+        Todo todo = Todo.builder().id(21).completed(true).build();
+        BatchResult<Todo> batchResult = new BatchResult<>(List.of(BatchItemResult.failure(0, "Todo not found")));
+        BatchResult<TodoDTO> batchResultDTO = new BatchResult<>(List.of(BatchItemResult.failure(0, "Todo not found")));
+        when(converter.toModel(item)).thenReturn(todo);
+        when(todoService.updateAll(List.of(todo))).thenReturn(batchResult);
+        when(converter.toDTO(batchResult)).thenReturn(batchResultDTO);
+
+        // When
+        ResponseEntity<BatchResult<TodoDTO>> responseEntity = todoController.updateAll(
+                new BatchUpdateTodoRequest(List.of(item)));
+
+        // Then
+        verify(todoService).updateAll(List.of(todo));
+        assertThat(responseEntity.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(responseEntity.getBody().getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeleteAllTodos() {
+        // Given
+        List<Integer> ids = List.of(1, 2);
+        BatchResult<Integer> batchResult = new BatchResult<>(List.of(
+                BatchItemResult.success(0, 1),
+                BatchItemResult.success(1, 2)));
+        when(todoService.deleteAllById(ids)).thenReturn(batchResult);
+
+        // When
+        ResponseEntity<BatchResult<Integer>> responseEntity = todoController.deleteAll(new BatchDeleteTodoRequest(ids));
+
+        // Then
+        verify(todoService).deleteAllById(ids);
+        assertThat(responseEntity.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(responseEntity.getBody().getSucceeded()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldStreamTheExportAsJson() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> responseEntity = todoController.export(null);
+        responseEntity.getBody().writeTo(outputStream);
+
+        // Then
+        assertThat(responseEntity.getStatusCode().is2xxSuccessful()).isTrue();
+        assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        verify(exportWriter).write(ExportFormat.JSON, outputStream);
+    }
+
+    @Test
+    void shouldStreamTheExportAsCsvWhenRequested() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        ResponseEntity<StreamingResponseBody> responseEntity = todoController.export("text/csv");
+        responseEntity.getBody().writeTo(outputStream);
+
+        // Then
+        assertThat(responseEntity.getHeaders().getContentType()).isEqualTo(ExportFormat.CSV.getMediaType());
+        verify(exportWriter).write(ExportFormat.CSV, outputStream);
     }
-}
\ No newline at end of file
+}
@@ -1,8 +1,13 @@
 package dev.rgonzalez.demo.todo.api.converter;
 
+import dev.rgonzalez.demo.todo.api.domain.BatchUpdateTodoItem;
 import dev.rgonzalez.demo.todo.api.domain.CreateTodoRequest;
 import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
 import dev.rgonzalez.demo.todo.api.domain.UpdateTodoRequest;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
+import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,7 +50,7 @@ class TodoDTOConverterTest {
         assertThat(todoDTO.description()).isEqualTo(todo.getDescription());
         assertThat(todoDTO.priority()).isEqualTo(todo.getPriority());
         assertThat(todoDTO.dueDate()).isEqualTo(todo.getDueDate());
-        assertThat(todoDTO.completed()).isEqualTo(todo.isCompleted());
+        assertThat(todoDTO.completed()).isEqualTo(todo.getCompleted());
         assertThat(todoDTO.createdAt()).isEqualTo(todo.getCreatedAt());
         assertThat(todoDTO.completedAt()).isNull();
     }
@@ -69,6 +75,39 @@ class TodoDTOConverterTest {
         assertThat(result.getContent()).hasSameSizeAs(pagedResult.getContent());
     }
 
+    @Test
+    void shouldConvertToPagedResultOfDTOWithoutTotals() {
+        // Given
+        PagedResult<Todo> pagedResult = new PagedResult<>(TodoTestFactory.createTodoList(),
+                PageRequest.of(1, 5).withoutTotals());
+
+        // When
+        PagedResult<TodoDTO> result = converter.toDTO(pagedResult);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getPage()).isEqualTo(1);
+        assertThat(result.getSize()).isEqualTo(5);
+        assertThat(result.getTotalPages()).isNull();
+        assertThat(result.getTotalElements()).isNull();
+        assertThat(result.getContent()).hasSameSizeAs(pagedResult.getContent());
+    }
+
+    @Test
+    void shouldConvertToCursorPagedResultOfDTO() {
+        // Given
+        CursorPagedResult<Todo> cursorPagedResult = TodoTestFactory.createCursorPagedResultOfTodos(5, "bmV4dA");
+
+        // When
+        CursorPagedResult<TodoDTO> result = converter.toDTO(cursorPagedResult);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getSize()).isEqualTo(cursorPagedResult.getSize());
+        assertThat(result.getNextCursor()).isEqualTo(cursorPagedResult.getNextCursor());
+        assertThat(result.getContent()).hasSameSizeAs(cursorPagedResult.getContent());
+    }
+
     @Test
     void shouldConvertToModelFromCreateTodoRequest() {
         // Given
@@ -84,7 +123,7 @@ class TodoDTOConverterTest {
         assertThat(todo.getPriority()).isEqualTo(request.priority());
         assertThat(todo.getDueDate()).isEqualTo(request.dueDate());
         assertThat(todo.getCreatedAt()).isNull();
-        assertThat(todo.isCompleted()).isFalse();
+        assertThat(todo.getCompleted()).isNull();
         assertThat(todo.getCompletedAt()).isNull();
     }
 
@@ -103,9 +142,44 @@ class TodoDTOConverterTest {
         assertThat(todo.getDescription()).isEqualTo(request.description());
         assertThat(todo.getPriority()).isEqualTo(request.priority());
         assertThat(todo.getDueDate()).isEqualTo(request.dueDate());
-        assertThat(todo.isCompleted()).isEqualTo(request.completed());
+        assertThat(todo.getCompleted()).isEqualTo(request.completed());
         assertThat(todo.getCreatedAt()).isNull();
         assertThat(todo.getCompletedAt()).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldConvertToBatchResultOfDTO() {
+        // Given
+        Todo todo = new Todo(10, "My First Task", Priority.HIGH, null, false, LocalDateTime.now(), null, null, 1L);
+        BatchResult<Todo> batchResult = new BatchResult<>(List.of(
+                BatchItemResult.success(0, todo),
+                BatchItemResult.failure(1, "Description is required.")));
+
+        // When
+        BatchResult<TodoDTO> result = converter.toDTO(batchResult);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getResult().id()).isEqualTo(10);
+        assertThat(result.getResults().get(0).getResult().description()).isEqualTo("My First Task");
+        assertThat(result.getResults().get(1).getResult()).isNull();
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Description is required.");
+    }
+
+    @Test
+    void shouldConvertToModelFromBatchUpdateTodoItem() {
+        // Given
+        BatchUpdateTodoItem item = new BatchUpdateTodoItem(7, "Updated Task", Priority.LOW, null, true);
+
+        // When
+        Todo todo = converter.toModel(item);
+
+        // Then
+        assertThat(todo.getId()).isEqualTo(7);
+        assertThat(todo.getDescription()).isEqualTo("Updated Task");
+        assertThat(todo.getPriority()).isEqualTo(Priority.LOW);
+        assertThat(todo.getDueDate()).isNull();
+        assertThat(todo.getCompleted()).isTrue();
+    }
+}
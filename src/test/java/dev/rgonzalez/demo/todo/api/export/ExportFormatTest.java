@@ -0,0 +1,27 @@
+package dev.rgonzalez.demo.todo.api.export;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExportFormatTest {
+
+    @Test
+    void shouldDefaultToJsonWhenThereIsNoAcceptHeader() {
+        assertThat(ExportFormat.fromAcceptHeader(null)).isEqualTo(ExportFormat.JSON);
+        assertThat(ExportFormat.fromAcceptHeader("")).isEqualTo(ExportFormat.JSON);
+    }
+
+    @Test
+    void shouldDefaultToJsonWhenAnythingIsAccepted() {
+        assertThat(ExportFormat.fromAcceptHeader("*/*")).isEqualTo(ExportFormat.JSON);
+    }
+
+    @Test
+    void shouldResolveTheRequestedFormat() {
+        assertThat(ExportFormat.fromAcceptHeader("application/x-ndjson")).isEqualTo(ExportFormat.NDJSON);
+        assertThat(ExportFormat.fromAcceptHeader("text/csv")).isEqualTo(ExportFormat.CSV);
+        assertThat(ExportFormat.fromAcceptHeader("text/csv, */*")).isEqualTo(ExportFormat.CSV);
+    }
+
+}
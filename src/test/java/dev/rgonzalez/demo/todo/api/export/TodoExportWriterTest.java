@@ -0,0 +1,115 @@
+package dev.rgonzalez.demo.todo.api.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.rgonzalez.demo.todo.api.converter.TodoDTOConverter;
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.service.TodoService;
+import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+class TodoExportWriterTest {
+    @Mock
+    private TodoService todoService;
+
+    private TodoExportWriter exportWriter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportWriter = new TodoExportWriter(todoService, new TodoDTOConverter(), objectMapper);
+    }
+
+    @Test
+    void shouldWriteAllTodosAsAJsonArray() throws Exception {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        exportTodos(todoList);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportWriter.writeJsonArray(outputStream);
+
+        // Then
+        String json = outputStream.toString(StandardCharsets.UTF_8);
+        assertThat(json).startsWith("[{\"id\":1,\"description\":\"Task A\"").endsWith("}]");
+        assertThat(json).contains("\"dueDate\":\"2024-05-15\"");
+        assertThat(json.split("\"id\":")).hasSize(todoList.size() + 1);
+    }
+
+    @Test
+    void shouldWriteAnEmptyJsonArrayWhenThereAreNoTodos() throws Exception {
+        // Given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportWriter.writeJsonArray(outputStream);
+
+        // Then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldWriteOneJsonDocumentPerLine() throws Exception {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        exportTodos(todoList);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportWriter.write(ExportFormat.NDJSON, outputStream);
+
+        // Then
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSameSizeAs(todoList);
+        assertThat(lines[0]).startsWith("{\"id\":1,").endsWith("}");
+        assertThat(lines[4]).startsWith("{\"id\":5,").endsWith("}");
+    }
+
+    @Test
+    void shouldWriteCsvWithHeaderAndEscapedValues() throws Exception {
+        // Given
+        exportTodos(List.of(
+                new Todo(1, "Buy milk, eggs", Priority.HIGH, LocalDate.of(2024, 5, 15), false,
+                        LocalDateTime.of(2024, 5, 1, 10, 0), null, null, 1L),
+                new Todo(2, "Say \"hi\"", null, null, true,
+                        LocalDateTime.of(2024, 5, 1, 10, 0), LocalDateTime.of(2024, 5, 2, 9, 30), null, 1L)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // When
+        exportWriter.write(ExportFormat.CSV, outputStream);
+
+        // Then
+        assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                id,description,priority,dueDate,completed,createdAt,completedAt
+                1,"Buy milk, eggs",HIGH,2024-05-15,false,2024-05-01T10:00,
+                2,"Say ""hi""\",,,true,2024-05-01T10:00,2024-05-02T09:30
+                """);
+    }
+
+    private void exportTodos(List<Todo> todos) {
+        doAnswer(invocation -> {
+            Consumer<Todo> consumer = invocation.getArgument(0);
+            todos.forEach(consumer);
+            return null;
+        }).when(todoService).exportAll(any());
+    }
+}
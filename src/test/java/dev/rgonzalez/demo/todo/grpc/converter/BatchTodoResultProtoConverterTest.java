@@ -0,0 +1,70 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchTodoResultProtoConverterTest {
+    @Mock
+    private TodoProtoConverter todoProtoConverter;
+    @InjectMocks
+    private BatchTodoResultProtoConverter batchTodoResultProtoConverter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldReturnNullWhenModelBatchItemResultIsNull() {
+        // When
+        var result = batchTodoResultProtoConverter.toProto(null);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldConvertASuccessfulItemToBatchTodoResult() {
+        // Given
+        Todo todo = Todo.builder().id(3).description("Task C").build();
+        var todoProto = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder()
+                .setId(3)
+                .setDescription("Task C")
+                .build();
+        when(todoProtoConverter.toProto(todo)).thenReturn(todoProto);
+
+        // When
+        var result = batchTodoResultProtoConverter.toProto(BatchItemResult.success(2, todo));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getIndex()).isEqualTo(2);
+        assertThat(result.getResultCase()).isEqualTo(BatchTodoResult.ResultCase.TODO);
+        assertThat(result.getTodo()).isEqualTo(todoProto);
+    }
+
+    @Test
+    void shouldConvertAFailedItemToBatchTodoResult() {
+        // When
+        var result = batchTodoResultProtoConverter.toProto(BatchItemResult.failure(4, "Todo not found"));
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getIndex()).isEqualTo(4);
+        assertThat(result.getResultCase()).isEqualTo(BatchTodoResult.ResultCase.ERROR);
+        assertThat(result.getError()).isEqualTo("Todo not found");
+        verify(todoProtoConverter, never()).toProto(any(Todo.class));
+    }
+}
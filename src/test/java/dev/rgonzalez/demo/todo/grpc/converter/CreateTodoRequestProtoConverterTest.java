@@ -10,7 +10,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import static dev.rgonzalez.demo.todo.model.Priority.LOW;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,12 +31,12 @@ class CreateTodoRequestProtoConverterTest {
     }
 
     @Test
-    void shouldReturnOptionalEmptyWhenCreateTotoRequestIsNull() {
+    void shouldReturnNullWhenCreateTotoRequestIsNull() {
         // When
         var result = converter.toModel(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -54,16 +53,15 @@ class CreateTodoRequestProtoConverterTest {
                 .setDueDate(date)
                 .build();
         when(priorityProtoConverter.toModel(Priority.PRIORITY_LOW))
-                .thenReturn(Optional.of(LOW));
+                .thenReturn(LOW);
         when(dateProtoConverter.toModel(date))
-                .thenReturn(Optional.of(LocalDate.of(2024,5,30)));
+                .thenReturn(LocalDate.of(2024,5,30));
 
         // When
-        var response = converter.toModel(request);
+        var todo = converter.toModel(request);
 
         // Then
-        assertThat(response).isPresent();
-        var todo = response.get();
+        assertThat(todo).isNotNull();
         assertThat(todo.getDescription()).isEqualTo("A new Todo");
         assertThat(todo.getPriority()).isEqualTo(LOW);
         assertThat(todo.getDueDate().getYear()).isEqualTo(2024);
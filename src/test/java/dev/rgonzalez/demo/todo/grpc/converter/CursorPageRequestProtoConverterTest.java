@@ -0,0 +1,44 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.proto.todo.common.messages.CursorRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPageRequestProtoConverterTest {
+    private CursorPageRequestProtoConverter cursorPageRequestProtoConverter;
+
+    @BeforeEach
+    void setUp() {
+        cursorPageRequestProtoConverter = new CursorPageRequestProtoConverter();
+    }
+
+    @Test
+    void shouldReturnNullWhenCursorRequestIsNull() {
+        // When
+        var result = cursorPageRequestProtoConverter.toModel(null);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldConvertToModel() {
+        // Given
+        var cursorRequestProto = CursorRequest.newBuilder()
+                .setAfter(CursorPageRequest.encodeCursor(12))
+                .setSize(10)
+                .build();
+
+        // When
+        CursorPageRequest result = cursorPageRequestProtoConverter.toModel(cursorRequestProto);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getAfterId()).isEqualTo(12);
+        assertThat(result.getSize()).isEqualTo(10);
+    }
+
+}
@@ -0,0 +1,72 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import dev.rgonzalez.proto.todo.common.messages.CursorResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CursorPagedResultProtoConverterTest {
+    @Mock
+    private TodoProtoConverter todoProtoConverter;
+    @InjectMocks
+    private CursorPagedResultProtoConverter cursorPagedResultProtoConverter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldReturnNullWhenModelCursorPagedResultIsNull() {
+        // When
+        var result = cursorPagedResultProtoConverter.toProto(null);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldConvertToListTodoResponse() {
+        // Given
+        int size = 5;
+        CursorPagedResult<Todo> cursorPagedResult = TodoTestFactory.createCursorPagedResultOfTodos(size, "bmV4dA");
+
+        // When
+        ListTodoResponse listTodoResponse = cursorPagedResultProtoConverter.toProto(cursorPagedResult);
+
+        // Then
+        assertThat(listTodoResponse).isNotNull();
+        CursorResponse cursorResponse = listTodoResponse.getCursorResponse();
+        assertThat(cursorResponse.getSize()).isEqualTo(size);
+        assertThat(cursorResponse.getNextCursor()).isEqualTo("bmV4dA");
+        assertThat(listTodoResponse.hasPageResponse()).isFalse();
+        assertThat(listTodoResponse.getTodosList()).hasSameSizeAs(cursorPagedResult.getContent());
+        verify(todoProtoConverter, times(cursorPagedResult.getContent().size()))
+                .writeTo(any(dev.rgonzalez.proto.todo.common.messages.Todo.Builder.class), any(Todo.class));
+    }
+
+    @Test
+    void shouldLeaveNextCursorEmptyOnTheLastPage() {
+        // Given
+        CursorPagedResult<Todo> cursorPagedResult = TodoTestFactory.createCursorPagedResultOfTodos(20, null);
+
+        // When
+        var result = cursorPagedResultProtoConverter.toProto(cursorPagedResult);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getCursorResponse().getNextCursor()).isEmpty();
+    }
+
+}
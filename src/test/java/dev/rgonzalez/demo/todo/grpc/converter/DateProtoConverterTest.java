@@ -5,7 +5,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -23,23 +22,22 @@ class DateProtoConverterTest {
         LocalDate dueDate = LocalDate.of(2024,6,3);
 
         // When
-        Optional<Date> result = converter.toProto(dueDate);
+        Date actualDate = converter.toProto(dueDate);
 
         // Then
-        assertThat(result).isPresent();
-        Date actualDate = result.get();
+        assertThat(actualDate).isNotNull();
         assertThat(actualDate.getYear()).isEqualTo(2024);
         assertThat(actualDate.getMonth()).isEqualTo(6);
         assertThat(actualDate.getDay()).isEqualTo(3);
     }
 
     @Test
-    void shouldConvertFromModelToOptionalEmpty() {
+    void shouldConvertFromModelToNull() {
         // When
-        Optional<Date> result = converter.toProto(null);
+        Date result = converter.toProto(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -48,23 +46,22 @@ class DateProtoConverterTest {
         Date dueDate = Date.newBuilder().setYear(2024).setMonth(5).setDay(12).build();
 
         // When
-        Optional<LocalDate> result = converter.toModel(dueDate);
+        LocalDate actualDate = converter.toModel(dueDate);
 
         // Then
-        assertThat(result).isPresent();
-        LocalDate actualDate = result.get();
+        assertThat(actualDate).isNotNull();
         assertThat(actualDate.getYear()).isEqualTo(2024);
         assertThat(actualDate.getMonthValue()).isEqualTo(5);
         assertThat(actualDate.getDayOfMonth()).isEqualTo(12);
     }
 
     @Test
-    void shouldConvertFromProtoToOptional() {
+    void shouldConvertFromProtoToNull() {
         // When
-        Optional<LocalDate> result = converter.toModel(null);
+        LocalDate result = converter.toModel(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
 }
\ No newline at end of file
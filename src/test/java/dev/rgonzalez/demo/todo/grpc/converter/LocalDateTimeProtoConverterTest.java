@@ -7,7 +7,6 @@ import org.junit.jupiter.api.Test;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -20,12 +19,12 @@ class LocalDateTimeProtoConverterTest {
     }
 
     @Test
-    void shouldReturnOptionalEmptyIfLocalDateTimeIsNull() {
+    void shouldReturnNullIfLocalDateTimeIsNull() {
         // When
-        Optional<Timestamp> result = converter.toProto(null);
+        Timestamp result = converter.toProto(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -34,15 +33,28 @@ class LocalDateTimeProtoConverterTest {
         LocalDateTime dateTime = LocalDateTime.of(2024, 5, 19, 8, 34, 23);
 
         // When
-        Optional<Timestamp> result = converter.toProto(dateTime);
+        Timestamp timestamp = converter.toProto(dateTime);
 
         // Then
-        assertThat(result).isPresent();
-        Timestamp timestamp = result.get();
+        assertThat(timestamp).isNotNull();
         LocalDateTime dateTimeResult = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos())
                 .atZone(ZoneOffset.UTC)
                 .toLocalDateTime();
         assertThat(dateTimeResult).isEqualTo(dateTime);
     }
 
+    @Test
+    void shouldKeepTheNanosOfTheLocalDateTime() {
+        // Given
+        LocalDateTime dateTime = LocalDateTime.of(2024, 5, 19, 8, 34, 23, 123_456_789);
+
+        // When
+        Timestamp timestamp = converter.toProto(dateTime);
+
+        // Then
+        Instant instant = dateTime.toInstant(ZoneOffset.UTC);
+        assertThat(timestamp.getSeconds()).isEqualTo(instant.getEpochSecond());
+        assertThat(timestamp.getNanos()).isEqualTo(instant.getNano());
+    }
+
 }
\ No newline at end of file
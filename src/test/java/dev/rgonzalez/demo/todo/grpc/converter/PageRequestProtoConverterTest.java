@@ -4,8 +4,6 @@ import dev.rgonzalez.demo.todo.model.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.util.Optional;
-
 import static org.assertj.core.api.Assertions.assertThat;
 
 class PageRequestProtoConverterTest {
@@ -25,13 +23,30 @@ class PageRequestProtoConverterTest {
                 .build();
 
         // When
-        Optional<PageRequest> result = pageRequestProtoConverter.toModel(pageRequestProto);
+        PageRequest actualPageRequest = pageRequestProtoConverter.toModel(pageRequestProto);
 
         // Then
-        assertThat(result).isPresent();
-        PageRequest actualPageRequest = result.get();
+        assertThat(actualPageRequest).isNotNull();
         assertThat(actualPageRequest.getPage()).isEqualTo(3);
         assertThat(actualPageRequest.getSize()).isEqualTo(10);
+        assertThat(actualPageRequest.isIncludeTotals()).isTrue();
+    }
+
+    @Test
+    void shouldConvertToModelWithoutTotals() {
+        // Given
+        var pageRequestProto = dev.rgonzalez.proto.todo.common.messages.PageRequest.newBuilder()
+                .setPage(1)
+                .setSize(10)
+                .setSkipTotals(true)
+                .build();
+
+        // When
+        PageRequest result = pageRequestProtoConverter.toModel(pageRequestProto);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.isIncludeTotals()).isFalse();
     }
 
     @Test
@@ -40,13 +55,13 @@ class PageRequestProtoConverterTest {
         var pageRequestModel = PageRequest.of(4, 20);
 
         // When
-        var result = pageRequestProtoConverter.toProto(pageRequestModel);
+        var actualPageRequestProto = pageRequestProtoConverter.toProto(pageRequestModel);
 
         // Then
-        assertThat(result).isPresent();
-        var actualPageRequestProto = result.get();
+        assertThat(actualPageRequestProto).isNotNull();
         assertThat(actualPageRequestProto.getPage()).isEqualTo(4);
         assertThat(actualPageRequestProto.getSize()).isEqualTo(20);
+        assertThat(actualPageRequestProto.getSkipTotals()).isFalse();
     }
 
 }
\ No newline at end of file
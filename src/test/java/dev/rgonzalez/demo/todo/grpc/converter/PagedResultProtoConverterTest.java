@@ -1,5 +1,6 @@
 package dev.rgonzalez.demo.todo.grpc.converter;
 
+import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Todo;
 import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
@@ -11,11 +12,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class PagedResultProtoConverterTest {
     @Mock
@@ -29,12 +31,12 @@ class PagedResultProtoConverterTest {
     }
 
     @Test
-    void shouldReturnEmptyOptionalWhenModelPagedResultIsNull() {
+    void shouldReturnNullWhenModelPagedResultIsNull() {
         // When
         var result = pagedResultProtoConverter.toProto(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -44,22 +46,55 @@ class PagedResultProtoConverterTest {
         int size = 5;
         int totalElements = 150;
         PagedResult<Todo> pagedResult = TodoTestFactory.createPagedResultOfTodos(page, size, totalElements);
-        var todoProto = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder().build();
-        when(todoProtoConverter.toProto(any(Todo.class)))
-                .thenReturn(Optional.of(todoProto));
 
         // When
-        var result = pagedResultProtoConverter.toProto(pagedResult);
+        ListTodoResponse listTodoResponse = pagedResultProtoConverter.toProto(pagedResult);
 
         // Then
-        assertThat(result).isPresent();
-        ListTodoResponse listTodoResponse = result.get();
+        assertThat(listTodoResponse).isNotNull();
         PageResponse pageResponse = listTodoResponse.getPageResponse();
         assertThat(pageResponse.getPage()).isEqualTo(pagedResult.getPage());
         assertThat(pageResponse.getSize()).isEqualTo(pagedResult.getSize());
         assertThat(pageResponse.getTotalPages()).isEqualTo(pagedResult.getTotalPages());
         assertThat(pageResponse.getTotalElements()).isEqualTo(pagedResult.getTotalElements());
         assertThat(listTodoResponse.getTodosList()).hasSameSizeAs(pagedResult.getContent());
+        verify(todoProtoConverter, times(pagedResult.getContent().size()))
+                .writeTo(any(dev.rgonzalez.proto.todo.common.messages.Todo.Builder.class), any(Todo.class));
+    }
+
+    @Test
+    void shouldNotSetTotalsWhenTheyWereSkipped() {
+        // Given
+        var pageRequest = dev.rgonzalez.demo.todo.model.PageRequest.of(1, 5).withoutTotals();
+        PagedResult<Todo> pagedResult = new PagedResult<>(TodoTestFactory.createTodoList(), pageRequest);
+
+        // When
+        var result = pagedResultProtoConverter.toProto(pagedResult);
+
+        // Then
+        assertThat(result).isNotNull();
+        PageResponse pageResponse = result.getPageResponse();
+        assertThat(pageResponse.getPage()).isEqualTo(1);
+        assertThat(pageResponse.getSize()).isEqualTo(5);
+        assertThat(pageResponse.hasTotalElements()).isFalse();
+        assertThat(pageResponse.hasTotalPages()).isFalse();
+    }
+
+    @Test
+    void shouldBuildListTodoResponseFromAlreadyMappedMessages() {
+        // Given
+        var todoProto = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder().setId(3).build();
+        PagedResult<dev.rgonzalez.proto.todo.common.messages.Todo> pagedResult =
+                new PagedResult<>(List.of(todoProto), 21, PageRequest.of(2, 10));
+
+        // When
+        var result = pagedResultProtoConverter.toListTodoResponse(pagedResult);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getTodosList()).containsExactly(todoProto);
+        assertThat(result.getPageResponse().getTotalElements()).isEqualTo(21);
+        assertThat(result.getPageResponse().getPage()).isEqualTo(2);
     }
 
-}
\ No newline at end of file
+}
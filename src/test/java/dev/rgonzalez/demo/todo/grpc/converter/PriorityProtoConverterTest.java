@@ -7,7 +7,6 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
-import java.util.Optional;
 import java.util.stream.Stream;
 
 import static dev.rgonzalez.proto.todo.common.messages.Priority.PRIORITY_HIGH;
@@ -25,12 +24,12 @@ class PriorityProtoConverterTest {
     }
 
     @Test
-    void shouldConvertUnspecifiedProtoToOptionalEmpty() {
+    void shouldConvertUnspecifiedProtoToNull() {
         // When
-        Optional<Priority> result = priorityProtoConverter.toModel(PRIORITY_UNSPECIFIED);
+        Priority result = priorityProtoConverter.toModel(PRIORITY_UNSPECIFIED);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -49,9 +48,7 @@ class PriorityProtoConverterTest {
         var result = priorityProtoConverter.toModel(proto);
 
         // Then
-        assertThat(result).isPresent();
-        Priority actualModel = result.get();
-        assertThat(actualModel).isEqualTo(expectedModel);
+        assertThat(result).isEqualTo(expectedModel);
     }
 
     @ParameterizedTest
@@ -0,0 +1,74 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import dev.rgonzalez.proto.todo.common.messages.Date;
+import dev.rgonzalez.proto.todo.common.messages.Priority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDate;
+
+import static dev.rgonzalez.demo.todo.model.Priority.HIGH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class TodoFilterProtoConverterTest {
+    @Mock
+    private PriorityProtoConverter priorityProtoConverter;
+
+    @Mock
+    private DateProtoConverter dateProtoConverter;
+
+    @InjectMocks
+    private TodoFilterProtoConverter todoFilterProtoConverter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldReturnNullWhenTodoFilterIsNull() {
+        // When
+        var result = todoFilterProtoConverter.toModel(null);
+
+        // Then
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void shouldConvertAnUnsetFilterToAnEmptyFilter() {
+        // When
+        var result = todoFilterProtoConverter.toModel(
+                dev.rgonzalez.proto.todo.client.todo.TodoFilter.getDefaultInstance());
+
+        // Then
+        assertThat(result).isEqualTo(TodoFilter.none());
+    }
+
+    @Test
+    void shouldConvertToTodoFilter() {
+        // Given
+        Date dueFrom = Date.newBuilder().setYear(2024).setMonth(5).setDay(1).build();
+        Date dueTo = Date.newBuilder().setYear(2024).setMonth(5).setDay(31).build();
+        var proto = dev.rgonzalez.proto.todo.client.todo.TodoFilter.newBuilder()
+                .setCompleted(false)
+                .setPriority(Priority.PRIORITY_HIGH)
+                .setDueFrom(dueFrom)
+                .setDueTo(dueTo)
+                .build();
+        when(priorityProtoConverter.toModel(Priority.PRIORITY_HIGH)).thenReturn(HIGH);
+        when(dateProtoConverter.toModel(dueFrom)).thenReturn(LocalDate.of(2024, 5, 1));
+        when(dateProtoConverter.toModel(dueTo)).thenReturn(LocalDate.of(2024, 5, 31));
+
+        // When
+        var result = todoFilterProtoConverter.toModel(proto);
+
+        // Then
+        assertThat(result).isEqualTo(TodoFilter.of(false, HIGH, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31)));
+    }
+
+}
@@ -1,6 +1,5 @@
 package dev.rgonzalez.demo.todo.grpc.converter;
 
-import com.google.protobuf.Timestamp;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
 import dev.rgonzalez.proto.todo.common.messages.Date;
@@ -9,24 +8,24 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Optional;
+import java.time.ZoneOffset;
 
 import static dev.rgonzalez.proto.todo.common.messages.Priority.PRIORITY_HIGH;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 class TodoProtoConverterTest {
     @Mock
     private PriorityProtoConverter priorityProtoConverter;
 
-    @Mock
+    @Spy
     private DateProtoConverter dateProtoConverter;
 
-    @Mock
+    @Spy
     private LocalDateTimeProtoConverter localDateTimeProtoConverter;
 
     @InjectMocks
@@ -38,12 +37,12 @@ class TodoProtoConverterTest {
     }
 
     @Test
-    void shouldReturnOptionalEmptyWhenTodoIsNull() {
+    void shouldReturnNullWhenTodoIsNull() {
         // When
         var result = todoProtoConverter.toProto(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -57,24 +56,14 @@ class TodoProtoConverterTest {
                 .completed(false)
                 .createdAt(LocalDateTime.now())
                 .build();
-        Date expectedDueDate = Date.newBuilder()
-                .setYear(2024)
-                .setMonth(6)
-                .setDay(7)
-                .build();
         when(priorityProtoConverter.toProto(Priority.HIGH))
                 .thenReturn(PRIORITY_HIGH);
-        when(dateProtoConverter.toProto(LocalDate.of(2024, 6, 7)))
-                .thenReturn(Optional.of(expectedDueDate));
-        when(localDateTimeProtoConverter.toProto(any(LocalDateTime.class)))
-                .thenReturn(Optional.of(Timestamp.newBuilder().build()));
 
         // When
-        var result = todoProtoConverter.toProto(todo);
+        var protoTodo = todoProtoConverter.toProto(todo);
 
         // Then
-        assertThat(result).isPresent();
-        var protoTodo = result.get();
+        assertThat(protoTodo).isNotNull();
         assertThat(protoTodo.getId()).isEqualTo(todo.getId());
         assertThat(protoTodo.getDescription()).isEqualTo(todo.getDescription());
         assertThat(protoTodo.getPriority()).isEqualTo(PRIORITY_HIGH);
@@ -82,9 +71,38 @@ class TodoProtoConverterTest {
         assertThat(dueDate.getYear()).isEqualTo(2024);
         assertThat(dueDate.getMonth()).isEqualTo(6);
         assertThat(dueDate.getDay()).isEqualTo(7);
-        assertThat(protoTodo.getCompleted()).isEqualTo(todo.isCompleted());
+        assertThat(protoTodo.getCompleted()).isEqualTo(todo.getCompleted());
         assertThat(protoTodo.hasCreatedAt()).isTrue();
         assertThat(protoTodo.hasCompletedAt()).isFalse();
     }
 
+    @Test
+    void shouldWriteNestedMessagesIntoTheGivenBuilder() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 6, 1, 10, 15, 30, 500);
+        LocalDateTime completedAt = LocalDateTime.of(2024, 6, 2, 11, 0);
+        Todo todo = Todo.builder()
+                .id(11)
+                .description("Written in place")
+                .dueDate(LocalDate.of(2024, 6, 7))
+                .completed(true)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .build();
+        var builder = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder();
+
+        // When
+        todoProtoConverter.writeTo(builder, todo);
+
+        // Then
+        var protoTodo = builder.build();
+        assertThat(protoTodo.getId()).isEqualTo(11);
+        assertThat(protoTodo.hasPriority()).isFalse();
+        assertThat(protoTodo.getDueDate())
+                .isEqualTo(Date.newBuilder().setYear(2024).setMonth(6).setDay(7).build());
+        assertThat(protoTodo.getCreatedAt().getSeconds()).isEqualTo(createdAt.toEpochSecond(ZoneOffset.UTC));
+        assertThat(protoTodo.getCreatedAt().getNanos()).isEqualTo(500);
+        assertThat(protoTodo.getCompletedAt().getSeconds()).isEqualTo(completedAt.toEpochSecond(ZoneOffset.UTC));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package dev.rgonzalez.demo.todo.grpc.converter;
+
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.model.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class TodoProtoRowMapperTest {
+    @Mock
+    private ResultSet resultSet;
+
+    private final TodoProtoRowMapper todoProtoRowMapper = new TodoProtoRowMapper();
+
+    private final TodoProtoConverter todoProtoConverter = new TodoProtoConverter(new PriorityProtoConverter(),
+            new DateProtoConverter(), new LocalDateTimeProtoConverter());
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldBuildTheSameMessageAsTheModelConverter() throws SQLException {
+        // Given
+        LocalDate dueDate = LocalDate.of(2024, 5, 15);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0, 0, 123_000_000);
+        LocalDateTime completedAt = LocalDateTime.of(2024, 5, 2, 9, 30);
+        when(resultSet.getInt(1)).thenReturn(7);
+        when(resultSet.getString(2)).thenReturn("Task A");
+        when(resultSet.getString(3)).thenReturn("MEDIUM");
+        when(resultSet.getObject(4, LocalDate.class)).thenReturn(dueDate);
+        when(resultSet.getBoolean(5)).thenReturn(true);
+        when(resultSet.getObject(6, LocalDateTime.class)).thenReturn(createdAt);
+        when(resultSet.getObject(7, LocalDateTime.class)).thenReturn(completedAt);
+        Todo todo = new Todo(7, "Task A", Priority.MEDIUM, dueDate, true, createdAt, completedAt, null, 1L);
+
+        // When
+        var protoTodo = todoProtoRowMapper.mapRow(resultSet, 0);
+
+        // Then
+        assertThat(protoTodo).isEqualTo(todoProtoConverter.toProto(todo));
+    }
+
+    @Test
+    void shouldLeaveNullableFieldsUnset() throws SQLException {
+        // Given
+        when(resultSet.getInt(1)).thenReturn(8);
+        when(resultSet.getString(2)).thenReturn("Task B");
+
+        // When
+        var protoTodo = todoProtoRowMapper.mapRow(resultSet, 0);
+
+        // Then
+        assertThat(protoTodo.getId()).isEqualTo(8);
+        assertThat(protoTodo.getPriority())
+                .isEqualTo(dev.rgonzalez.proto.todo.common.messages.Priority.PRIORITY_UNSPECIFIED);
+        assertThat(protoTodo.hasDueDate()).isFalse();
+        assertThat(protoTodo.hasCompletedAt()).isFalse();
+        assertThat(protoTodo.hasCreatedAt()).isFalse();
+    }
+
+}
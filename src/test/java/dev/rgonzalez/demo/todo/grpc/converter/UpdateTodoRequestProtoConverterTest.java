@@ -10,7 +10,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.time.LocalDate;
-import java.util.Optional;
 
 import static dev.rgonzalez.demo.todo.model.Priority.LOW;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,12 +31,12 @@ class UpdateTodoRequestProtoConverterTest {
     }
 
     @Test
-    void shouldReturnOptionalEmptyWhenUpdateTodoRequestIsNull() {
+    void shouldReturnNullWhenUpdateTodoRequestIsNull() {
         // When
         var result = updateTodoRequestProtoConverter.toModel(null);
 
         // Then
-        assertThat(result).isEmpty();
+        assertThat(result).isNull();
     }
 
     @Test
@@ -57,22 +56,21 @@ class UpdateTodoRequestProtoConverterTest {
                 .setCompleted(true)
                 .build();
         when(priorityProtoConverter.toModel(Priority.PRIORITY_LOW))
-                .thenReturn(Optional.of(LOW));
+                .thenReturn(LOW);
         when(dateProtoConverter.toModel(date))
-                .thenReturn(Optional.of(LocalDate.of(2024, 5, 30)));
+                .thenReturn(LocalDate.of(2024, 5, 30));
 
         // When
-        var response = updateTodoRequestProtoConverter.toModel(request);
+        var todo = updateTodoRequestProtoConverter.toModel(request);
 
         // Then
-        assertThat(response).isPresent();
-        var todo = response.get();
+        assertThat(todo).isNotNull();
         assertThat(todo.getDescription()).isEqualTo("Updating a Todo");
         assertThat(todo.getPriority()).isEqualTo(LOW);
         assertThat(todo.getDueDate().getYear()).isEqualTo(2024);
         assertThat(todo.getDueDate().getMonthValue()).isEqualTo(5);
         assertThat(todo.getDueDate().getDayOfMonth()).isEqualTo(30);
-        assertThat(todo.isCompleted()).isTrue();
+        assertThat(todo.getCompleted()).isTrue();
         assertThat(todo.getCreatedAt()).isNull();
         assertThat(todo.getCompletedAt()).isNull();
 
@@ -0,0 +1,97 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoResponse;
+import dev.rgonzalez.proto.todo.common.messages.Todo;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompressionInterceptorTest {
+
+    @Mock
+    private AppProperties appProperties;
+
+    @Mock
+    private ServerCall<GetTodoRequest, GetTodoResponse> call;
+
+    @Mock
+    private ServerCallHandler<GetTodoRequest, GetTodoResponse> next;
+
+    private CompressionInterceptor compressionInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(appProperties.isGrpcCompressionEnabled()).thenReturn(true);
+        when(appProperties.getGrpcCompressionMinMessageSize()).thenReturn(100);
+        compressionInterceptor = new CompressionInterceptor(appProperties);
+    }
+
+    @Test
+    void shouldCompressMessagesAboveTheMinimumSize() {
+        // Given
+        GetTodoResponse response = GetTodoResponse.newBuilder()
+                .setTodo(Todo.newBuilder().setDescription("x".repeat(200)))
+                .build();
+
+        // When
+        compressionInterceptor.interceptCall(call, new Metadata(), next);
+        captureCompressedCall().sendMessage(response);
+
+        // Then
+        verify(call).setCompression(CompressionInterceptor.GZIP);
+        verify(call).setMessageCompression(true);
+        verify(call).sendMessage(response);
+    }
+
+    @Test
+    void shouldNotCompressMessagesBelowTheMinimumSize() {
+        // Given
+        GetTodoResponse response = GetTodoResponse.newBuilder()
+                .setTodo(Todo.newBuilder().setDescription("Task A"))
+                .build();
+
+        // When
+        compressionInterceptor.interceptCall(call, new Metadata(), next);
+        captureCompressedCall().sendMessage(response);
+
+        // Then
+        verify(call).setMessageCompression(false);
+        verify(call).sendMessage(response);
+    }
+
+    @Test
+    void shouldNotSetCompressionWhenDisabled() {
+        // Given
+        when(appProperties.isGrpcCompressionEnabled()).thenReturn(false);
+
+        // When
+        compressionInterceptor.interceptCall(call, new Metadata(), next);
+
+        // Then
+        verify(call, never()).setCompression(anyString());
+        verify(next).startCall(eq(call), any(Metadata.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServerCall<GetTodoRequest, GetTodoResponse> captureCompressedCall() {
+        ArgumentCaptor<ServerCall<GetTodoRequest, GetTodoResponse>> callCaptor = ArgumentCaptor.forClass(ServerCall.class);
+        verify(next).startCall(callCaptor.capture(), any(Metadata.class));
+        return callCaptor.getValue();
+    }
+
+}
@@ -0,0 +1,112 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitInterceptorTest {
+
+    @Mock
+    private AppProperties appProperties;
+
+    @Mock
+    private ServerCall<GetTodoRequest, GetTodoResponse> call;
+
+    @Mock
+    private ServerCallHandler<GetTodoRequest, GetTodoResponse> next;
+
+    @Mock
+    private ServerCall.Listener<GetTodoRequest> listener;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(appProperties.getGrpcConcurrencyLimit()).thenReturn(1);
+        when(appProperties.getGrpcConcurrencyMaxWaitMillis()).thenReturn(0L);
+        when(call.getMethodDescriptor()).thenReturn(TodoServiceGrpc.getGetMethod());
+        when(next.startCall(any(), any())).thenReturn(listener);
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimitInterceptor = new ConcurrencyLimitInterceptor(appProperties, meterRegistry);
+        concurrencyLimitInterceptor.init();
+    }
+
+    @Test
+    void shouldRejectCallWithResourceExhaustedWhenLimitIsReached() {
+        // Given
+        concurrencyLimitInterceptor.interceptCall(call, new Metadata(), next);
+
+        // When
+        concurrencyLimitInterceptor.interceptCall(call, new Metadata(), next);
+
+        // Then
+        verify(next, times(1)).startCall(any(), any());
+        ArgumentCaptor<Status> statusCaptor = ArgumentCaptor.forClass(Status.class);
+        verify(call).close(statusCaptor.capture(), any(Metadata.class));
+        assertThat(statusCaptor.getValue().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+        assertThat(meterRegistry.get(ConcurrencyLimitInterceptor.REJECTED_METRIC).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConcurrencyLimitInterceptor.IN_FLIGHT_METRIC).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldReleasePermitOnceWhenCallIsClosedAndCompleted() {
+        // Given
+        ServerCall.Listener<GetTodoRequest> interceptedListener =
+                concurrencyLimitInterceptor.interceptCall(call, new Metadata(), next);
+        ServerCall<GetTodoRequest, GetTodoResponse> limitedCall = captureLimitedCall();
+
+        // When
+        limitedCall.close(Status.OK, new Metadata());
+        interceptedListener.onComplete();
+
+        // Then
+        assertThat(meterRegistry.get(ConcurrencyLimitInterceptor.IN_FLIGHT_METRIC).gauge().value()).isZero();
+        verify(call).close(eq(Status.OK), any(Metadata.class));
+        verify(listener).onComplete();
+    }
+
+    @Test
+    void shouldReleasePermitWhenCallIsCancelled() {
+        // Given
+        ServerCall.Listener<GetTodoRequest> interceptedListener =
+                concurrencyLimitInterceptor.interceptCall(call, new Metadata(), next);
+
+        // When
+        interceptedListener.onCancel();
+        concurrencyLimitInterceptor.interceptCall(call, new Metadata(), next);
+
+        // Then
+        verify(next, times(2)).startCall(any(), any());
+        verify(listener).onCancel();
+        assertThat(meterRegistry.get(ConcurrencyLimitInterceptor.REJECTED_METRIC).counter().count()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ServerCall<GetTodoRequest, GetTodoResponse> captureLimitedCall() {
+        ArgumentCaptor<ServerCall<GetTodoRequest, GetTodoResponse>> callCaptor = ArgumentCaptor.forClass(ServerCall.class);
+        verify(next).startCall(callCaptor.capture(), any(Metadata.class));
+        return callCaptor.getValue();
+    }
+
+}
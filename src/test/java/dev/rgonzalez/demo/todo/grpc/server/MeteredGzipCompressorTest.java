@@ -0,0 +1,50 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MeteredGzipCompressorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MeteredGzipCompressor meteredGzipCompressor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        meteredGzipCompressor = new MeteredGzipCompressor(meterRegistry);
+        meteredGzipCompressor.init();
+    }
+
+    @Test
+    void shouldCompressWithGzipAndRecordRatioAndTime() throws IOException {
+        // Given
+        byte[] message = "Task A ".repeat(500).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        // When
+        try (OutputStream os = meteredGzipCompressor.compress(compressed)) {
+            os.write(message);
+        }
+
+        // Then
+        assertThat(meteredGzipCompressor.getMessageEncoding()).isEqualTo("gzip");
+        try (GZIPInputStream is = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(is.readAllBytes()).isEqualTo(message);
+        }
+        assertThat(meterRegistry.get(MeteredGzipCompressor.COMPRESSION_RATIO_METRIC).summary().mean())
+                .isEqualTo((double) message.length / compressed.size());
+        assertThat(meterRegistry.get(MeteredGzipCompressor.COMPRESSION_TIME_METRIC).timer().count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,143 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
+import io.grpc.Context;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MetricsInterceptorTest {
+    private static final String GET_METHOD = "todo.v1.client.TodoService/Get";
+
+    @Mock
+    private ServerCall<GetTodoRequest, GetTodoResponse> call;
+
+    @Mock
+    private ServerCallHandler<GetTodoRequest, GetTodoResponse> next;
+
+    @Mock
+    private ServerCall.Listener<GetTodoRequest> listener;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private MetricsInterceptor metricsInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        metricsInterceptor = new MetricsInterceptor(meterRegistry);
+        metricsInterceptor.init();
+        when(call.getMethodDescriptor()).thenReturn(TodoServiceGrpc.getGetMethod());
+        when(next.startCall(any(), any())).thenReturn(listener);
+    }
+
+    @Test
+    void shouldRecordLatencyAndMessageSizesOfACall() {
+        // Given
+        GetTodoRequest request = GetTodoRequest.newBuilder().setId(1234).build();
+        GetTodoResponse response = GetTodoResponse.getDefaultInstance();
+
+        // When
+        ServerCall.Listener<GetTodoRequest> interceptedListener =
+                metricsInterceptor.interceptCall(call, new Metadata(), next);
+        double activeCallsDuringCall = meterRegistry.get(MetricsInterceptor.ACTIVE_CALLS_METRIC).gauge().value();
+        interceptedListener.onMessage(request);
+        ServerCall<GetTodoRequest, GetTodoResponse> monitoredCall = captureMonitoredCall();
+        monitoredCall.sendMessage(response);
+        monitoredCall.close(Status.OK, new Metadata());
+
+        // Then
+        assertThat(activeCallsDuringCall).isEqualTo(1.0);
+        assertThat(meterRegistry.get(MetricsInterceptor.ACTIVE_CALLS_METRIC).gauge().value()).isZero();
+        assertThat(meterRegistry.get(MetricsInterceptor.CALLS_METRIC)
+                .tag("method", GET_METHOD).tag("status", "OK").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MetricsInterceptor.REQUEST_SIZE_METRIC)
+                .tag("method", GET_METHOD).summary().totalAmount()).isEqualTo(request.getSerializedSize());
+        assertThat(meterRegistry.get(MetricsInterceptor.RESPONSE_SIZE_METRIC)
+                .tag("method", GET_METHOD).summary().count()).isEqualTo(1);
+        verify(listener).onMessage(request);
+        verify(call).close(eq(Status.OK), any(Metadata.class));
+    }
+
+    @Test
+    void shouldReuseTheMetersOfAMethodAcrossCalls() {
+        // Given
+        GetTodoRequest request = GetTodoRequest.newBuilder().setId(1234).build();
+
+        // When
+        for (int i = 0; i < 2; i++) {
+            metricsInterceptor.interceptCall(call, new Metadata(), next).onMessage(request);
+        }
+        ArgumentCaptor<ServerCall<GetTodoRequest, GetTodoResponse>> callCaptor = ArgumentCaptor.forClass(ServerCall.class);
+        verify(next, times(2)).startCall(callCaptor.capture(), any(Metadata.class));
+        callCaptor.getAllValues().forEach(monitoredCall -> monitoredCall.close(Status.OK, new Metadata()));
+
+        // Then
+        assertThat(meterRegistry.find(MetricsInterceptor.REQUEST_SIZE_METRIC).summaries()).hasSize(1);
+        assertThat(meterRegistry.get(MetricsInterceptor.REQUEST_SIZE_METRIC)
+                .tag("method", GET_METHOD).summary().count()).isEqualTo(2);
+        assertThat(meterRegistry.find(MetricsInterceptor.CALLS_METRIC).timers()).hasSize(1);
+        assertThat(meterRegistry.get(MetricsInterceptor.CALLS_METRIC)
+                .tag("method", GET_METHOD).tag("status", "OK").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountACancelledCallOnlyOnce() {
+        // When
+        ServerCall.Listener<GetTodoRequest> interceptedListener =
+                metricsInterceptor.interceptCall(call, new Metadata(), next);
+        interceptedListener.onCancel();
+        captureMonitoredCall().close(Status.CANCELLED, new Metadata());
+
+        // Then
+        assertThat(meterRegistry.get(MetricsInterceptor.CALLS_METRIC)
+                .tag("status", "CANCELLED").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(MetricsInterceptor.ACTIVE_CALLS_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldPropagateTraceParentIntoTheCallContext() {
+        // Given
+        String traceParent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        Metadata headers = new Metadata();
+        headers.put(MetricsInterceptor.TRACE_PARENT_HEADER, traceParent);
+        AtomicReference<String> propagatedTraceParent = new AtomicReference<>();
+        doAnswer(invocation -> {
+            propagatedTraceParent.set(MetricsInterceptor.TRACE_PARENT.get(Context.current()));
+            return null;
+        }).when(listener).onHalfClose();
+
+        // When
+        metricsInterceptor.interceptCall(call, headers, next).onHalfClose();
+
+        // Then
+        assertThat(propagatedTraceParent).hasValue(traceParent);
+    }
+
+    private ServerCall<GetTodoRequest, GetTodoResponse> captureMonitoredCall() {
+        ArgumentCaptor<ServerCall<GetTodoRequest, GetTodoResponse>> callCaptor = ArgumentCaptor.forClass(ServerCall.class);
+        verify(next).startCall(callCaptor.capture(), any(Metadata.class));
+        return callCaptor.getValue();
+    }
+
+}
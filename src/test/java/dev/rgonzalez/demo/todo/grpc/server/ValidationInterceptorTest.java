@@ -0,0 +1,155 @@
+package dev.rgonzalez.demo.todo.grpc.server;
+
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.DeleteTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ListTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.TodoServiceGrpc;
+import dev.rgonzalez.proto.todo.client.todo.UpdateTodoRequest;
+import dev.rgonzalez.proto.todo.common.messages.CursorRequest;
+import dev.rgonzalez.proto.todo.common.messages.PageRequest;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ValidationInterceptorTest {
+
+    @Mock
+    private ServerCall<Object, Object> call;
+
+    @Mock
+    private ServerCallHandler<Object, Object> next;
+
+    @Mock
+    private ServerCall.Listener<Object> listener;
+
+    private ValidationInterceptor validationInterceptor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(next.startCall(any(), any())).thenReturn(listener);
+        validationInterceptor = new ValidationInterceptor();
+    }
+
+    @Test
+    void shouldRejectCreateRequestWithoutDescription() {
+        // Given
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getCreateMethod());
+
+        // When
+        interceptedListener.onMessage(CreateTodoRequest.newBuilder().build());
+        interceptedListener.onHalfClose();
+
+        // Then
+        assertRejectedWith(ValidationInterceptor.DESCRIPTION_REQUIRED);
+        verify(listener, never()).onMessage(any());
+        verify(listener, never()).onHalfClose();
+    }
+
+    @Test
+    void shouldForwardValidCreateRequest() {
+        // Given
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getCreateMethod());
+        CreateTodoRequest request = CreateTodoRequest.newBuilder().setDescription("Task A").build();
+
+        // When
+        interceptedListener.onMessage(request);
+        interceptedListener.onHalfClose();
+
+        // Then
+        verify(listener).onMessage(request);
+        verify(listener).onHalfClose();
+        verify(call, never()).close(any(), any());
+    }
+
+    @Test
+    void shouldRejectUpdateRequestWithEmptyDescription() {
+        // Given
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getUpdateMethod());
+
+        // When
+        interceptedListener.onMessage(UpdateTodoRequest.newBuilder().setId(3).setDescription("").build());
+
+        // Then
+        assertRejectedWith(ValidationInterceptor.DESCRIPTION_REQUIRED);
+    }
+
+    @Test
+    void shouldRejectGetRequestWithoutId() {
+        // Given
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getGetMethod());
+
+        // When
+        interceptedListener.onMessage(GetTodoRequest.newBuilder().build());
+
+        // Then
+        assertRejectedWith(ValidationInterceptor.ID_REQUIRED);
+    }
+
+    @Test
+    void shouldRejectListRequestWithoutPageSize() {
+        // Given
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getListMethod());
+
+        // When
+        interceptedListener.onMessage(ListTodoRequest.newBuilder()
+                .setPageRequest(PageRequest.newBuilder().setPage(1))
+                .build());
+
+        // Then
+        assertRejectedWith(ValidationInterceptor.INVALID_PAGE_REQUEST);
+    }
+
+    @Test
+    void shouldRejectCursorListRequestWithoutSize() {
+        // Given
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getListMethod());
+
+        // When
+        interceptedListener.onMessage(ListTodoRequest.newBuilder()
+                .setCursorRequest(CursorRequest.newBuilder())
+                .build());
+
+        // Then
+        assertRejectedWith(ValidationInterceptor.INVALID_CURSOR_REQUEST);
+    }
+
+    @Test
+    void shouldNotWrapListenerOfMethodsWithoutRules() {
+        // When
+        ServerCall.Listener<Object> interceptedListener = interceptCall(TodoServiceGrpc.getDeleteMethod());
+        interceptedListener.onMessage(DeleteTodoRequest.newBuilder().build());
+
+        // Then
+        assertThat(interceptedListener).isSameAs(listener);
+        verify(call, never()).close(any(), any());
+    }
+
+    private ServerCall.Listener<Object> interceptCall(MethodDescriptor<?, ?> methodDescriptor) {
+        doReturn(methodDescriptor).when(call).getMethodDescriptor();
+        return validationInterceptor.interceptCall(call, new Metadata(), next);
+    }
+
+    private void assertRejectedWith(String description) {
+        ArgumentCaptor<Status> statusCaptor = ArgumentCaptor.forClass(Status.class);
+        verify(call).close(statusCaptor.capture(), any(Metadata.class));
+        assertThat(statusCaptor.getValue().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+        assertThat(statusCaptor.getValue().getDescription()).isEqualTo(description);
+    }
+
+}
@@ -1,37 +1,65 @@
 package dev.rgonzalez.demo.todo.grpc.service;
 
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.grpc.converter.BatchTodoResultProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.CreateTodoRequestProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.CursorPageRequestProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.CursorPagedResultProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.PageRequestProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.PagedResultProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.TodoFilterProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.TodoProtoConverter;
 import dev.rgonzalez.demo.todo.grpc.converter.UpdateTodoRequestProtoConverter;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.service.TodoService;
 import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
+import dev.rgonzalez.proto.todo.client.todo.BatchCreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchCreateTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.BatchDeleteTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.BatchDeleteTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
 import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.CreateTodoResponse;
 import dev.rgonzalez.proto.todo.client.todo.DeleteTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.DeleteTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.ExportTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ExportTodoResponse;
 import dev.rgonzalez.proto.todo.client.todo.GetTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.GetTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.ImportSummary;
 import dev.rgonzalez.proto.todo.client.todo.ListTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.ListTodoResponse;
+import dev.rgonzalez.proto.todo.client.todo.SearchTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.UpdateTodoRequest;
 import dev.rgonzalez.proto.todo.client.todo.UpdateTodoResponse;
+import dev.rgonzalez.proto.todo.common.messages.CursorRequest;
 import dev.rgonzalez.proto.todo.common.messages.PageRequest;
 import dev.rgonzalez.proto.todo.common.messages.Priority;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +82,27 @@ class TodoGrpcServiceTest {
     @Mock
     private UpdateTodoRequestProtoConverter updateTodoRequestProtoConverter;
 
+    @Mock
+    private CursorPageRequestProtoConverter cursorPageRequestProtoConverter;
+
+    @Mock
+    private CursorPagedResultProtoConverter cursorPagedResultProtoConverter;
+
+    @Mock
+    private BatchTodoResultProtoConverter batchTodoResultProtoConverter;
+
+    @Mock
+    private TodoFilterProtoConverter todoFilterProtoConverter;
+
+    @Mock
+    private TodoProtoReader todoProtoReader;
+
+    @Mock
+    private AppProperties appProperties;
+
+    @Mock
+    private ExecutorService grpcExecutor;
+
     @InjectMocks
     private TodoGrpcService todoGrpcService;
 
@@ -72,44 +121,100 @@ class TodoGrpcServiceTest {
         StreamObserver<ListTodoResponse> responseObserver = Mockito.mock(StreamObserver.class);
         var modelPageRequest = dev.rgonzalez.demo.todo.model.PageRequest.of(page, size);
         when(pageRequestProtoConverter.toModel(pageRequest))
-                .thenReturn(Optional.of(modelPageRequest));
-        var pagedResult = new PagedResult<>(TodoTestFactory.createTodoList(),
+                .thenReturn(modelPageRequest);
+        var pagedResult = new PagedResult<>(
+                List.of(dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder().setId(1).build()),
                 120, modelPageRequest);
-        when(todoService.findAll(modelPageRequest))
+        when(todoFilterProtoConverter.toModel(request.getFilter()))
+                .thenReturn(TodoFilter.none());
+        when(todoProtoReader.findAll(TodoFilter.none(), modelPageRequest))
                 .thenReturn(pagedResult);
         var listTodoResponse = ListTodoResponse.newBuilder().build();
-        when(pagedResultProtoConverter.toProto(pagedResult))
-                .thenReturn(Optional.of(listTodoResponse));
+        when(pagedResultProtoConverter.toListTodoResponse(pagedResult))
+                .thenReturn(listTodoResponse);
 
         // When
         todoGrpcService.list(request, responseObserver);
 
         // Then
-        verify(todoService).findAll(modelPageRequest);
+        verify(todoProtoReader).findAll(TodoFilter.none(), modelPageRequest);
+        verify(responseObserver).onNext(listTodoResponse);
+    }
+
+    @Test
+    void shouldSearchTodos() {
+        // Given
+        var pageRequest = PageRequest.newBuilder().setPage(0).setSize(10).build();
+        var request = SearchTodoRequest.newBuilder().setQuery("task").setPageRequest(pageRequest).build();
+        StreamObserver<ListTodoResponse> responseObserver = Mockito.mock(StreamObserver.class);
+        var modelPageRequest = dev.rgonzalez.demo.todo.model.PageRequest.of(0, 10);
+        when(pageRequestProtoConverter.toModel(pageRequest))
+                .thenReturn(modelPageRequest);
+        var pagedResult = new PagedResult<>(TodoTestFactory.createTodoList(), 5, modelPageRequest);
+        when(todoService.search("task", modelPageRequest))
+                .thenReturn(pagedResult);
+        when(pagedResultProtoConverter.toProto(pagedResult))
+                .thenReturn(ListTodoResponse.newBuilder().build());
+
+        // When
+        todoGrpcService.search(request, responseObserver);
+
+        // Then
+        verify(todoService).search("task", modelPageRequest);
         verify(responseObserver).onNext(any(ListTodoResponse.class));
     }
 
+    @Test
+    void shouldListTodosAfterACursor() {
+        // Given
+        int size = 10;
+        var cursorRequest = CursorRequest.newBuilder().setSize(size).build();
+        var request = ListTodoRequest.newBuilder().setCursorRequest(cursorRequest).build();
+        StreamObserver<ListTodoResponse> responseObserver = Mockito.mock(StreamObserver.class);
+        var modelCursorPageRequest = CursorPageRequest.of(null, size);
+        when(cursorPageRequestProtoConverter.toModel(cursorRequest))
+                .thenReturn(modelCursorPageRequest);
+        var cursorPagedResult = new CursorPagedResult<>(TodoTestFactory.createTodoList(),
+                null, modelCursorPageRequest);
+        when(todoService.findAll(modelCursorPageRequest))
+                .thenReturn(cursorPagedResult);
+        var listTodoResponse = ListTodoResponse.newBuilder().build();
+        when(cursorPagedResultProtoConverter.toProto(cursorPagedResult))
+                .thenReturn(listTodoResponse);
+
+        // When
+        todoGrpcService.list(request, responseObserver);
+
+        // Then
+        verify(todoService).findAll(modelCursorPageRequest);
+        verify(responseObserver).onNext(listTodoResponse);
+        verify(responseObserver).onCompleted();
+    }
+
     @Test
     void shouldGetATodo() {
         // Given
         int id = 7;
         var request = GetTodoRequest.newBuilder().setId(id).build();
         StreamObserver<GetTodoResponse> responseObserver = Mockito.mock(StreamObserver.class);
-        Todo modelTodo = Todo.builder()
-                .id(id)
-                .description("An existing Todo")
-                .priority(dev.rgonzalez.demo.todo.model.Priority.HIGH)
-                .build();
+        Todo modelTodo = Todo.builder().id(id).description("An existing Todo").build();
         when(todoService.findById(id)).thenReturn(Optional.of(modelTodo));
-        var protoTodo = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder().build();
-        when(todoProtoConverter.toProto(modelTodo)).thenReturn(Optional.of(protoTodo));
+        doAnswer(invocation -> invocation.<dev.rgonzalez.proto.todo.common.messages.Todo.Builder>getArgument(0)
+                .setId(id)
+                .setDescription("An existing Todo"))
+                .when(todoProtoConverter).writeTo(any(dev.rgonzalez.proto.todo.common.messages.Todo.Builder.class),
+                        eq(modelTodo));
 
         // When
         todoGrpcService.get(request, responseObserver);
 
         // Then
         verify(todoService).findById(id);
-        verify(responseObserver).onNext(any(GetTodoResponse.class));
+        var protoTodo = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder()
+                .setId(id)
+                .setDescription("An existing Todo")
+                .build();
+        verify(responseObserver).onNext(GetTodoResponse.newBuilder().setTodo(protoTodo).build());
     }
 
     @Test
@@ -125,11 +230,11 @@ class TodoGrpcServiceTest {
                 .description(description)
                 .priority(dev.rgonzalez.demo.todo.model.Priority.HIGH)
                 .build();
-        when(createTodoRequestProtoConverter.toModel(request)).thenReturn(Optional.of(modelTodo));
+        when(createTodoRequestProtoConverter.toModel(request)).thenReturn(modelTodo);
         var protoTodo = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder().build();
         when(todoService.create(modelTodo)).thenReturn(modelTodo);
         when(todoProtoConverter.toProto(modelTodo))
-                .thenReturn(Optional.of(protoTodo));
+                .thenReturn(protoTodo);
 
         // When
         todoGrpcService.create(request, responseObserver);
@@ -155,11 +260,11 @@ class TodoGrpcServiceTest {
                 .description(description)
                 .completed(true)
                 .build();
-        when(updateTodoRequestProtoConverter.toModel(request)).thenReturn(Optional.of(modelTodo));
+        when(updateTodoRequestProtoConverter.toModel(request)).thenReturn(modelTodo);
         var protoTodo = dev.rgonzalez.proto.todo.common.messages.Todo.newBuilder().build();
         when(todoService.update(modelTodo)).thenReturn(modelTodo);
         when(todoProtoConverter.toProto(modelTodo))
-                .thenReturn(Optional.of(protoTodo));
+                .thenReturn(protoTodo);
 
         // When
         todoGrpcService.update(request, responseObserver);
@@ -184,4 +289,93 @@ class TodoGrpcServiceTest {
         verify(responseObserver).onNext(any(DeleteTodoResponse.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldBatchCreateTodos() {
+        // Given
+        var createRequest = CreateTodoRequest.newBuilder().setDescription("Task A").build();
+        var request = BatchCreateTodoRequest.newBuilder().addTodos(createRequest).build();
+        Todo todo = Todo.builder().description("Task A").build();
+        BatchResult<Todo> batchResult = new BatchResult<>(List.of(BatchItemResult.success(0, todo)));
+        var batchTodoResult = BatchTodoResult.newBuilder().setIndex(0).build();
+        StreamObserver<BatchCreateTodoResponse> responseObserver = Mockito.mock(StreamObserver.class);
+        when(createTodoRequestProtoConverter.toModel(createRequest)).thenReturn(todo);
+        when(todoService.createAll(List.of(todo))).thenReturn(batchResult);
+        when(batchTodoResultProtoConverter.toProto(any(BatchItemResult.class))).thenReturn(batchTodoResult);
+
+        // When
+        todoGrpcService.batchCreate(request, responseObserver);
+
+        // Then
+        verify(todoService).createAll(List.of(todo));
+        ArgumentCaptor<BatchCreateTodoResponse> responseCaptor = ArgumentCaptor.forClass(BatchCreateTodoResponse.class);
+        verify(responseObserver).onNext(responseCaptor.capture());
+        verify(responseObserver).onCompleted();
+        assertThat(responseCaptor.getValue().getResultsList()).containsExactly(batchTodoResult);
+    }
+
+    @Test
+    void shouldBatchDeleteTodos() {
+        // Given
+        var request = BatchDeleteTodoRequest.newBuilder().addIds(5).addIds(99).build();
+        BatchResult<Integer> batchResult = new BatchResult<>(List.of(
+                BatchItemResult.success(0, 5),
+                BatchItemResult.failure(1, "Todo not found")));
+        StreamObserver<BatchDeleteTodoResponse> responseObserver = Mockito.mock(StreamObserver.class);
+        when(todoService.deleteAllById(List.of(5, 99))).thenReturn(batchResult);
+
+        // When
+        todoGrpcService.batchDelete(request, responseObserver);
+
+        // Then
+        ArgumentCaptor<BatchDeleteTodoResponse> responseCaptor = ArgumentCaptor.forClass(BatchDeleteTodoResponse.class);
+        verify(responseObserver).onNext(responseCaptor.capture());
+        verify(responseObserver).onCompleted();
+        var results = responseCaptor.getValue().getResultsList();
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).getId()).isEqualTo(5);
+        assertThat(results.get(0).hasError()).isFalse();
+        assertThat(results.get(1).getId()).isEqualTo(99);
+        assertThat(results.get(1).getError()).isEqualTo("Todo not found");
+    }
+
+    @Test
+    void shouldStartAnImportPullingOneMessageAtATime() {
+        // Given
+        ServerCallStreamObserver<ImportSummary> responseObserver = Mockito.mock(ServerCallStreamObserver.class);
+        when(appProperties.getGrpcImportChunkSize()).thenReturn(100);
+        when(appProperties.getBatchMaxSize()).thenReturn(500);
+
+        // When
+        var requestObserver = todoGrpcService.importTodos(responseObserver);
+
+        // Then
+        assertThat(requestObserver).isNotNull();
+        verify(responseObserver).disableAutoRequest();
+        verify(responseObserver).request(1);
+    }
+
+    @Test
+    void shouldExportTodosOnTheExecutor() {
+        // Given
+        ServerCallStreamObserver<ExportTodoResponse> responseObserver = Mockito.mock(ServerCallStreamObserver.class);
+        when(responseObserver.isReady()).thenReturn(true);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(grpcExecutor).execute(any(Runnable.class));
+        doAnswer(invocation -> {
+            Consumer<Todo> consumer = invocation.getArgument(0);
+            TodoTestFactory.createTodoList().forEach(consumer);
+            return null;
+        }).when(todoService).exportAll(any());
+
+        // When
+        todoGrpcService.export(ExportTodoRequest.newBuilder().build(), responseObserver);
+
+        // Then
+        verify(grpcExecutor).execute(any(Runnable.class));
+        verify(responseObserver, Mockito.times(TodoTestFactory.createTodoList().size()))
+                .onNext(any(ExportTodoResponse.class));
+        verify(responseObserver).onCompleted();
+    }
+}
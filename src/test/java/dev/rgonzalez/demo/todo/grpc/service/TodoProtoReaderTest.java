@@ -0,0 +1,52 @@
+package dev.rgonzalez.demo.todo.grpc.service;
+
+import dev.rgonzalez.demo.todo.grpc.converter.TodoProtoRowMapper;
+import dev.rgonzalez.demo.todo.model.PageRequest;
+import dev.rgonzalez.demo.todo.model.PagedResult;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
+import dev.rgonzalez.demo.todo.repository.TodoRepository;
+import dev.rgonzalez.proto.todo.common.messages.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoProtoReaderTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @Mock
+    private TodoProtoRowMapper todoProtoRowMapper;
+
+    @InjectMocks
+    private TodoProtoReader todoProtoReader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldReadAPageOfTodosWithTheProtoRowMapper() {
+        // Given
+        PageRequest pageRequest = PageRequest.of(0, 5);
+        PagedResult<Todo> pagedResult = new PagedResult<>(List.of(Todo.newBuilder().setId(1).build()), 1, pageRequest);
+        when(todoRepository.findAll(TodoFilter.none(), pageRequest, todoProtoRowMapper)).thenReturn(pagedResult);
+
+        // When
+        PagedResult<Todo> result = todoProtoReader.findAll(TodoFilter.none(), pageRequest);
+
+        // Then
+        assertThat(result).isSameAs(pagedResult);
+        verify(todoRepository).findAll(TodoFilter.none(), pageRequest, todoProtoRowMapper);
+    }
+
+}
@@ -0,0 +1,75 @@
+package dev.rgonzalez.demo.todo.grpc.service.observer;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FlowControlledSenderTest {
+    @Mock
+    private ServerCallStreamObserver<String> responseObserver;
+
+    private FlowControlledSender<String> sender;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        sender = new FlowControlledSender<>(responseObserver);
+    }
+
+    @Test
+    void shouldSendImmediatelyWhenTheCallIsReady() {
+        // Given
+        when(responseObserver.isReady()).thenReturn(true);
+
+        // When
+        sender.send("message");
+
+        // Then
+        verify(responseObserver).onNext("message");
+    }
+
+    @Test
+    void shouldWaitUntilTheCallBecomesReady() throws Exception {
+        // Given
+        ArgumentCaptor<Runnable> onReadyCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(responseObserver).setOnReadyHandler(onReadyCaptor.capture());
+        when(responseObserver.isReady()).thenReturn(false);
+
+        // When
+        CompletableFuture<Void> sent = CompletableFuture.runAsync(() -> sender.send("message"));
+        Thread.sleep(100);
+        assertThat(sent).isNotDone();
+        when(responseObserver.isReady()).thenReturn(true);
+        onReadyCaptor.getValue().run();
+
+        // Then
+        sent.get(5, TimeUnit.SECONDS);
+        verify(responseObserver).onNext("message");
+    }
+
+    @Test
+    void shouldStopSendingWhenTheCallIsCancelled() {
+        // Given
+        when(responseObserver.isReady()).thenReturn(false);
+        when(responseObserver.isCancelled()).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> sender.send("message"))
+                .isInstanceOf(CancellationException.class);
+        verify(responseObserver, never()).onNext("message");
+    }
+
+}
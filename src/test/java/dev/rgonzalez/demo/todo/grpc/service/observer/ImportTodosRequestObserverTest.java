@@ -0,0 +1,161 @@
+package dev.rgonzalez.demo.todo.grpc.service.observer;
+
+import dev.rgonzalez.demo.todo.grpc.converter.BatchTodoResultProtoConverter;
+import dev.rgonzalez.demo.todo.grpc.converter.CreateTodoRequestProtoConverter;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.service.TodoService;
+import dev.rgonzalez.proto.todo.client.todo.BatchTodoResult;
+import dev.rgonzalez.proto.todo.client.todo.CreateTodoRequest;
+import dev.rgonzalez.proto.todo.client.todo.ImportSummary;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImportTodosRequestObserverTest {
+    @Mock
+    private ServerCallStreamObserver<ImportSummary> responseObserver;
+    @Mock
+    private TodoService todoService;
+    @Mock
+    private CreateTodoRequestProtoConverter createTodoRequestProtoConverter;
+    @Mock
+    private BatchTodoResultProtoConverter batchTodoResultProtoConverter;
+
+    private ImportTodosRequestObserver importTodosRequestObserver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        importTodosRequestObserver = new ImportTodosRequestObserver(responseObserver, todoService,
+                createTodoRequestProtoConverter, batchTodoResultProtoConverter, 2);
+        when(createTodoRequestProtoConverter.toModel(any(CreateTodoRequest.class)))
+                .thenAnswer(invocation -> Todo.builder()
+                        .description(invocation.<CreateTodoRequest>getArgument(0).getDescription())
+                        .build());
+        when(todoService.createAll(anyList()))
+                .thenAnswer(invocation -> {
+                    List<Todo> todos = invocation.getArgument(0);
+                    return new BatchResult<>(IntStream.range(0, todos.size())
+                            .mapToObj(i -> todos.get(i).getDescription().isEmpty()
+                                    ? BatchItemResult.<Todo>failure(i, "Description is required.")
+                                    : BatchItemResult.success(i, todos.get(i)))
+                            .toList());
+                });
+    }
+
+    @Test
+    void shouldDisableAutomaticFlowControlWhenStarting() {
+        // When
+        importTodosRequestObserver.start();
+
+        // Then
+        verify(responseObserver).disableAutoRequest();
+        verify(responseObserver).request(1);
+    }
+
+    @Test
+    void shouldCommitEveryTimeAChunkIsFull() {
+        // When
+        importTodosRequestObserver.onNext(createTodoRequest("Task A"));
+        importTodosRequestObserver.onNext(createTodoRequest("Task B"));
+        importTodosRequestObserver.onNext(createTodoRequest("Task C"));
+
+        // Then
+        verify(todoService, times(1)).createAll(anyList());
+        verify(responseObserver, times(3)).request(1);
+        verify(responseObserver, never()).onNext(any(ImportSummary.class));
+    }
+
+    @Test
+    void shouldCommitTheLastChunkAndSendTheSummaryWhenCompleted() {
+        // Given
+        when(batchTodoResultProtoConverter.toProto(any(BatchItemResult.class)))
+                .thenAnswer(invocation -> BatchTodoResult.newBuilder()
+                        .setIndex(invocation.<BatchItemResult<Todo>>getArgument(0).getIndex())
+                        .setError(invocation.<BatchItemResult<Todo>>getArgument(0).getError())
+                        .build());
+        importTodosRequestObserver.onNext(createTodoRequest("Task A"));
+        importTodosRequestObserver.onNext(createTodoRequest("Task B"));
+        importTodosRequestObserver.onNext(createTodoRequest(""));
+
+        // When
+        importTodosRequestObserver.onCompleted();
+
+        // Then
+        verify(todoService, times(2)).createAll(anyList());
+        ArgumentCaptor<ImportSummary> summaryCaptor = ArgumentCaptor.forClass(ImportSummary.class);
+        verify(responseObserver).onNext(summaryCaptor.capture());
+        verify(responseObserver).onCompleted();
+        ImportSummary summary = summaryCaptor.getValue();
+        assertThat(summary.getReceived()).isEqualTo(3);
+        assertThat(summary.getImported()).isEqualTo(2);
+        assertThat(summary.getRejected()).isEqualTo(1);
+        assertThat(summary.getRejectionsList()).hasSize(1);
+        assertThat(summary.getRejections(0).getIndex()).isEqualTo(2);
+        assertThat(summary.getRejections(0).getError()).isEqualTo("Description is required.");
+    }
+
+    @Test
+    void shouldRejectMessagesThatCannotBeConvertedAtTheirOffset() {
+        // Given
+        when(batchTodoResultProtoConverter.toProto(any(BatchItemResult.class)))
+                .thenAnswer(invocation -> BatchTodoResult.newBuilder()
+                        .setIndex(invocation.<BatchItemResult<Todo>>getArgument(0).getIndex())
+                        .setError(invocation.<BatchItemResult<Todo>>getArgument(0).getError())
+                        .build());
+        CreateTodoRequest unconvertible = createTodoRequest("Unconvertible");
+        when(createTodoRequestProtoConverter.toModel(unconvertible)).thenReturn(null);
+        importTodosRequestObserver.onNext(createTodoRequest("Task A"));
+        importTodosRequestObserver.onNext(unconvertible);
+        importTodosRequestObserver.onNext(createTodoRequest(""));
+
+        // When
+        importTodosRequestObserver.onCompleted();
+
+        // Then
+        ArgumentCaptor<ImportSummary> summaryCaptor = ArgumentCaptor.forClass(ImportSummary.class);
+        verify(responseObserver).onNext(summaryCaptor.capture());
+        ImportSummary summary = summaryCaptor.getValue();
+        assertThat(summary.getReceived()).isEqualTo(3);
+        assertThat(summary.getImported()).isEqualTo(1);
+        assertThat(summary.getRejected()).isEqualTo(2);
+        assertThat(summary.getRejectionsList())
+                .extracting(BatchTodoResult::getIndex, BatchTodoResult::getError)
+                .containsExactly(tuple(1, "Couldn't convert to Todo type"), tuple(2, "Description is required."));
+    }
+
+    @Test
+    void shouldDiscardThePendingChunkWhenTheClientFails() {
+        // Given
+        importTodosRequestObserver.onNext(createTodoRequest("Task A"));
+
+        // When
+        importTodosRequestObserver.onError(new RuntimeException("Client cancelled"));
+
+        // Then
+        verify(todoService, never()).createAll(anyList());
+        verify(responseObserver, never()).onNext(any(ImportSummary.class));
+    }
+
+    private CreateTodoRequest createTodoRequest(String description) {
+        return CreateTodoRequest.newBuilder().setDescription(description).build();
+    }
+
+}
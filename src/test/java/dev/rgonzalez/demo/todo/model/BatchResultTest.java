@@ -0,0 +1,40 @@
+package dev.rgonzalez.demo.todo.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchResultTest {
+
+    @Test
+    void shouldCountSucceededAndFailedItems() {
+        // When
+        BatchResult<Integer> batchResult = new BatchResult<>(List.of(
+                BatchItemResult.success(0, 1),
+                BatchItemResult.failure(1, "Todo not found"),
+                BatchItemResult.success(2, 3)));
+
+        // Then
+        assertThat(batchResult.getSucceeded()).isEqualTo(2);
+        assertThat(batchResult.getFailed()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldMapOnlyTheSucceededItems() {
+        // Given
+        BatchResult<Integer> batchResult = new BatchResult<>(List.of(
+                BatchItemResult.success(0, 1),
+                BatchItemResult.failure(1, "Todo not found")));
+
+        // When
+        BatchResult<String> result = batchResult.map(id -> "todo-" + id);
+
+        // Then
+        assertThat(result.getResults()).extracting(BatchItemResult::getResult).containsExactly("todo-1", null);
+        assertThat(result.getResults()).extracting(BatchItemResult::getError).containsExactly(null, "Todo not found");
+        assertThat(result.getResults()).extracting(BatchItemResult::getIndex).containsExactly(0, 1);
+    }
+
+}
@@ -0,0 +1,59 @@
+package dev.rgonzalez.demo.todo.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorPageRequestTest {
+
+    @Test
+    void shouldCreateFirstCursorPageRequest() {
+        // When
+        CursorPageRequest cursorPageRequest = CursorPageRequest.firstPage();
+
+        // Then
+        assertThat(cursorPageRequest).isNotNull();
+        assertThat(cursorPageRequest.getAfterId()).isZero();
+        assertThat(cursorPageRequest.getSize()).isEqualTo(20);
+    }
+
+    @Test
+    void shouldStartFromTheBeginningWhenCursorIsEmpty() {
+        // When
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of("", 10);
+
+        // Then
+        assertThat(cursorPageRequest.getAfterId()).isZero();
+        assertThat(cursorPageRequest.getSize()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldDecodeAnEncodedCursor() {
+        // Given
+        String cursor = CursorPageRequest.encodeCursor(57);
+
+        // When
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(cursor, 5);
+
+        // Then
+        assertThat(cursorPageRequest.getAfterId()).isEqualTo(57);
+        assertThat(cursorPageRequest.getSize()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenCursorIsInvalid() {
+        // When & Then
+        assertThatThrownBy(() -> CursorPageRequest.of("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentExceptionWhenSizeIsLessThanOne() {
+        // When & Then
+        assertThatThrownBy(() -> CursorPageRequest.of(null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Size cannot be less than one");
+    }
+}
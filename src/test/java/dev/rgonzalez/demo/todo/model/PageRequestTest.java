@@ -31,6 +31,27 @@ class PageRequestTest {
         assertThat(pageRequest.getOffset()).isEqualTo(20);
     }
 
+    @Test
+    void shouldIncludeTotalsByDefault() {
+        // When
+        PageRequest pageRequest = PageRequest.of(1, 10);
+
+        // Then
+        assertThat(pageRequest.isIncludeTotals()).isTrue();
+    }
+
+    @Test
+    void shouldCreateAPageRequestWithoutTotals() {
+        // When
+        PageRequest pageRequest = PageRequest.of(2, 10).withoutTotals();
+
+        // Then
+        assertThat(pageRequest.getPage()).isEqualTo(2);
+        assertThat(pageRequest.getSize()).isEqualTo(10);
+        assertThat(pageRequest.getOffset()).isEqualTo(20);
+        assertThat(pageRequest.isIncludeTotals()).isFalse();
+    }
+
     @Test
     void shouldThrowIllegalArgumentExceptionWhenPageIsNegative() {
         // When & Then
@@ -0,0 +1,53 @@
+package dev.rgonzalez.demo.todo.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TodoFilterTest {
+
+    @Test
+    void shouldCreateAnEmptyFilter() {
+        // When
+        TodoFilter filter = TodoFilter.none();
+
+        // Then
+        assertThat(filter.isEmpty()).isTrue();
+        assertThat(filter).isEqualTo(TodoFilter.of(null, null, null, null));
+    }
+
+    @Test
+    void shouldCreateACustomFilter() {
+        // When
+        TodoFilter filter = TodoFilter.of(true, Priority.HIGH,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 31));
+
+        // Then
+        assertThat(filter.isEmpty()).isFalse();
+        assertThat(filter.getCompleted()).isTrue();
+        assertThat(filter.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(filter.getDueFrom()).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(filter.getDueTo()).isEqualTo(LocalDate.of(2024, 5, 31));
+    }
+
+    @Test
+    void shouldNotBeEmptyWhenOnlyOneBoundIsSet() {
+        // When
+        TodoFilter filter = TodoFilter.of(null, null, null, LocalDate.of(2024, 5, 31));
+
+        // Then
+        assertThat(filter.isEmpty()).isFalse();
+    }
+
+    @Test
+    void shouldThrowExceptionWhenTheDueDateRangeIsReversed() {
+        // When & Then
+        assertThatThrownBy(() -> TodoFilter.of(null, null, LocalDate.of(2024, 6, 1), LocalDate.of(2024, 5, 1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Due date range start cannot be after its end");
+    }
+
+}
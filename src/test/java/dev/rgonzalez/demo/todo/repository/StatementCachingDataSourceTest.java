@@ -0,0 +1,191 @@
+package dev.rgonzalez.demo.todo.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatementCachingDataSourceTest {
+    private static final String POOL_NAME = "test-pool";
+    private static final String SQL_A = "SELECT * FROM todo_item WHERE id = ?";
+    private static final String SQL_B = "DELETE FROM todo_item WHERE id = ?";
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    @Mock
+    private PreparedStatement statementA;
+
+    @Mock
+    private PreparedStatement otherStatementA;
+
+    @Mock
+    private PreparedStatement statementB;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StatementCachingDataSource statementCachingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        MockitoAnnotations.openMocks(this);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        when(targetConnection.prepareStatement(SQL_A)).thenReturn(statementA, otherStatementA);
+        when(targetConnection.prepareStatement(SQL_B)).thenReturn(statementB);
+        meterRegistry = new SimpleMeterRegistry();
+        statementCachingDataSource = new StatementCachingDataSource(targetDataSource, 1, meterRegistry, POOL_NAME);
+    }
+
+    @Test
+    void shouldReuseStatementClosedOnTheSameConnection() throws SQLException {
+        // Given
+        Connection connection = statementCachingDataSource.getConnection();
+        connection.prepareStatement(SQL_A).close();
+
+        // When
+        PreparedStatement statement = connection.prepareStatement(SQL_A);
+        statement.setInt(1, 7);
+
+        // Then
+        verify(targetConnection, times(1)).prepareStatement(SQL_A);
+        verify(statementA).clearParameters();
+        verify(statementA).setInt(1, 7);
+        verify(statementA, never()).close();
+        assertThat(cacheCount("hit")).isEqualTo(1);
+        assertThat(cacheCount("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResetSettingsLeftByThePreviousCallerBeforeCaching() throws SQLException {
+        // Given
+        Connection connection = statementCachingDataSource.getConnection();
+        PreparedStatement statement = connection.prepareStatement(SQL_A);
+        statement.setMaxRows(10);
+        statement.setQueryTimeout(5);
+
+        // When
+        statement.close();
+
+        // Then
+        verify(statementA).setMaxRows(0);
+        verify(statementA).setQueryTimeout(0);
+        verify(statementA).setFetchSize(0);
+        verify(statementA).setMaxFieldSize(0);
+        verify(statementA, never()).close();
+    }
+
+    @Test
+    void shouldOnlyClearParametersOfStatementsThatWereNotConfigured() throws SQLException {
+        // Given
+        PreparedStatement statement = statementCachingDataSource.getConnection().prepareStatement(SQL_A);
+        statement.setInt(1, 7);
+
+        // When
+        statement.close();
+
+        // Then
+        verify(statementA).clearParameters();
+        verify(statementA, never()).setMaxRows(anyInt());
+        verify(statementA, never()).setQueryTimeout(anyInt());
+    }
+
+    @Test
+    void shouldPrepareAnotherStatementWhileTheCachedOneIsInUse() throws SQLException {
+        // Given
+        Connection connection = statementCachingDataSource.getConnection();
+        PreparedStatement inUse = connection.prepareStatement(SQL_A);
+
+        // When
+        PreparedStatement statement = connection.prepareStatement(SQL_A);
+        inUse.close();
+        statement.close();
+
+        // Then
+        verify(targetConnection, times(2)).prepareStatement(SQL_A);
+        verify(statementA, never()).close();
+        verify(otherStatementA).close();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedStatementWhenTheCacheIsFull() throws SQLException {
+        // Given
+        Connection connection = statementCachingDataSource.getConnection();
+        connection.prepareStatement(SQL_A).close();
+
+        // When
+        connection.prepareStatement(SQL_B).close();
+
+        // Then
+        verify(statementA).close();
+        verify(statementB, never()).close();
+        assertThat(meterRegistry.get(StatementCachingDataSource.EVICTIONS_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCloseCachedStatementsWithTheConnection() throws SQLException {
+        // Given
+        Connection connection = statementCachingDataSource.getConnection();
+        connection.prepareStatement(SQL_A).close();
+
+        // When
+        connection.close();
+
+        // Then
+        verify(statementA).close();
+        verify(targetConnection).close();
+    }
+
+    @Test
+    void shouldRejectCallsOnAStatementThatWasReturnedToTheCache() throws SQLException {
+        // Given
+        PreparedStatement statement = statementCachingDataSource.getConnection().prepareStatement(SQL_A);
+        statement.close();
+
+        // When & Then
+        assertThat(statement.isClosed()).isTrue();
+        assertThatThrownBy(statement::executeQuery)
+                .isInstanceOf(SQLException.class)
+                .hasMessage("Statement is closed");
+    }
+
+    @Test
+    void shouldNotCacheStatementsReturningGeneratedKeys() throws SQLException {
+        // Given
+        when(targetConnection.prepareStatement(SQL_A, Statement.RETURN_GENERATED_KEYS)).thenReturn(statementA);
+
+        // When
+        PreparedStatement statement = statementCachingDataSource.getConnection()
+                .prepareStatement(SQL_A, Statement.RETURN_GENERATED_KEYS);
+
+        // Then
+        assertThat(statement).isSameAs(statementA);
+        assertThat(cacheCount("miss")).isZero();
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get(StatementCachingDataSource.STATEMENT_CACHE_METRIC)
+                .tag("pool", POOL_NAME)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+
+}
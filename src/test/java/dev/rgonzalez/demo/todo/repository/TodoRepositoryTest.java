@@ -1,28 +1,38 @@
 package dev.rgonzalez.demo.todo.repository;
 
 import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.exceptions.PreconditionFailedException;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.jdbc.core.simple.JdbcClient;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,6 +40,9 @@ class TodoRepositoryTest {
     @Mock
     private JdbcClient jdbcClient;
 
+    @Spy
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private TodoRepository todoRepository;
 
@@ -38,10 +51,18 @@ class TodoRepositoryTest {
         MockitoAnnotations.openMocks(this);
     }
 
+    @Test
+    void shouldRegisterTheRowSummariesUpFront() {
+        // When & Then
+        assertThat(meterRegistry.find("todo.repository.rows").summaries())
+                .extracting(summary -> summary.getId().getTag("operation"))
+                .containsExactlyInAnyOrder("findAll", "findAllFiltered", "search", "findAllAfter");
+    }
+
     @Test
     void shouldGetPagedResultWhenFindingAllTodos() {
         // Given
-        String sqlCount = "SELECT COUNT(*) FROM todo_item";
+        String sqlCount = "FROM todo_item_count";
         JdbcClient.StatementSpec countStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
         JdbcClient.ResultQuerySpec countResultQuerySpec = Mockito.mock(JdbcClient.ResultQuerySpec.class);
         when(jdbcClient.sql(contains(sqlCount))).thenReturn(countStmtSpec);
@@ -58,7 +79,7 @@ class TodoRepositoryTest {
         when(jdbcClient.sql(contains(sqlFindAll))).thenReturn(findAllStmtSpec);
         when(findAllStmtSpec.param("limit", size)).thenReturn(findAllStmtSpec);
         when(findAllStmtSpec.param("offset", offset)).thenReturn(findAllStmtSpec);
-        when(findAllStmtSpec.query(Todo.class)).thenReturn(mappedQuerySpec);
+        when(findAllStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
         when(mappedQuerySpec.list()).thenReturn(todoList);
         PageRequest pageRequest = PageRequest.of(page, size);
 
@@ -74,12 +95,163 @@ class TodoRepositoryTest {
         assertThat(pagedResult.getContent()).hasSameSizeAs(todoList);
         verify(findAllStmtSpec).param("limit", size);
         verify(findAllStmtSpec).param("offset", offset);
+        assertThat(meterRegistry.get("todo.repository.rows").tag("operation", "findAll").summary().totalAmount())
+                .isEqualTo((double) todoList.size());
+    }
+
+    @Test
+    void shouldFetchAFilteredPageOfTodos() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList().subList(0, 2);
+        TodoFilter filter = TodoFilter.of(false, Priority.MEDIUM, LocalDate.of(2024, 5, 1), null);
+        JdbcClient.StatementSpec findAllStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("ORDER BY due_date, id"))).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.params(anyMap())).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.param(any(String.class), any())).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(todoList);
+        JdbcClient.StatementSpec countStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Integer> countQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("SELECT COUNT(*)"))).thenReturn(countStmtSpec);
+        when(countStmtSpec.params(anyMap())).thenReturn(countStmtSpec);
+        when(countStmtSpec.query(Integer.class)).thenReturn(countQuerySpec);
+        when(countQuerySpec.single()).thenReturn(2);
+
+        // When
+        PagedResult<Todo> pagedResult = todoRepository.findAll(filter, PageRequest.of(0, 5));
+
+        // Then
+        assertThat(pagedResult.getContent()).hasSameSizeAs(todoList);
+        assertThat(pagedResult.getTotalElements()).isEqualTo(2);
+        verify(jdbcClient).sql(contains(
+                "WHERE completed = :completed AND priority = :priority AND due_date >= :dueFrom"));
+        verify(findAllStmtSpec).params(Map.of("completed", false, "priority", "MEDIUM", "dueFrom", "2024-05-01"));
+        verify(jdbcClient, never()).sql(contains("FROM todo_item_count"));
+    }
+
+    @Test
+    void shouldFetchAnUnfilteredPageWhenTheFilterIsEmpty() {
+        // Given
+        JdbcClient.StatementSpec findAllStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("LIMIT :limit OFFSET :offset"))).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.param(any(String.class), any())).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(TodoTestFactory.createTodoList());
+
+        // When
+        todoRepository.findAll(TodoFilter.none(), PageRequest.of(0, 5).withoutTotals());
+
+        // Then
+        verify(jdbcClient, never()).sql(contains("WHERE"));
+        verify(jdbcClient, never()).sql(contains("ORDER BY due_date, id"));
+    }
+
+    @Test
+    void shouldSearchTodosWithAnEscapedMatchExpression() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        JdbcClient.StatementSpec searchStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("ORDER BY todo_item_fts.rank"))).thenReturn(searchStmtSpec);
+        when(searchStmtSpec.param(any(String.class), any())).thenReturn(searchStmtSpec);
+        when(searchStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(todoList);
+
+        // When
+        PagedResult<Todo> pagedResult = todoRepository.search(" buy \"milk ", PageRequest.of(1, 5).withoutTotals());
+
+        // Then
+        assertThat(pagedResult.getContent()).hasSameSizeAs(todoList);
+        assertThat(pagedResult.getTotalElements()).isNull();
+        verify(searchStmtSpec).param("query", "\"buy\" \"\"\"milk\"*");
+        verify(searchStmtSpec).param("limit", 5);
+        verify(searchStmtSpec).param("offset", 5);
+        verify(jdbcClient, never()).sql(contains("SELECT COUNT(*)"));
+    }
+
+    @Test
+    void shouldNotCountTodosWhenTotalsAreSkipped() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        int page = 2;
+        int size = 5;
+        JdbcClient.StatementSpec findAllStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("LIMIT :limit OFFSET :offset"))).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.param(any(String.class), any())).thenReturn(findAllStmtSpec);
+        when(findAllStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(todoList);
+        PageRequest pageRequest = PageRequest.of(page, size).withoutTotals();
+
+        // When
+        PagedResult<Todo> pagedResult = todoRepository.findAll(pageRequest);
+
+        // Then
+        assertThat(pagedResult.getPage()).isEqualTo(page);
+        assertThat(pagedResult.getSize()).isEqualTo(size);
+        assertThat(pagedResult.getTotalElements()).isNull();
+        assertThat(pagedResult.getTotalPages()).isNull();
+        assertThat(pagedResult.getContent()).hasSameSizeAs(todoList);
+        verify(jdbcClient, never()).sql(contains("FROM todo_item_count"));
+    }
+
+    @Test
+    void shouldGetCursorPagedResultWithNextCursorWhenMoreTodosRemain() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        int size = 4;
+        int afterId = 0;
+        String sqlFindAllAfter = "WHERE id > :afterId";
+        JdbcClient.StatementSpec findAllAfterStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains(sqlFindAllAfter))).thenReturn(findAllAfterStmtSpec);
+        when(findAllAfterStmtSpec.param("afterId", afterId)).thenReturn(findAllAfterStmtSpec);
+        when(findAllAfterStmtSpec.param("limit", size + 1)).thenReturn(findAllAfterStmtSpec);
+        when(findAllAfterStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(todoList);
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(null, size);
+
+        // When
+        CursorPagedResult<Todo> cursorPagedResult = todoRepository.findAll(cursorPageRequest);
+
+        // Then
+        assertThat(cursorPagedResult).isNotNull();
+        assertThat(cursorPagedResult.getSize()).isEqualTo(size);
+        assertThat(cursorPagedResult.getContent()).hasSize(size);
+        assertThat(cursorPagedResult.getNextCursor()).isEqualTo(CursorPageRequest.encodeCursor(4));
+        verify(findAllAfterStmtSpec).param("afterId", afterId);
+        verify(findAllAfterStmtSpec).param("limit", size + 1);
+    }
+
+    @Test
+    void shouldGetCursorPagedResultWithoutNextCursorOnTheLastPage() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        int size = 5;
+        int afterId = 7;
+        JdbcClient.StatementSpec findAllAfterStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("WHERE id > :afterId"))).thenReturn(findAllAfterStmtSpec);
+        when(findAllAfterStmtSpec.param(any(String.class), any())).thenReturn(findAllAfterStmtSpec);
+        when(findAllAfterStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(todoList);
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(CursorPageRequest.encodeCursor(afterId), size);
+
+        // When
+        CursorPagedResult<Todo> cursorPagedResult = todoRepository.findAll(cursorPageRequest);
+
+        // Then
+        assertThat(cursorPagedResult.getContent()).hasSameSizeAs(todoList);
+        assertThat(cursorPagedResult.getNextCursor()).isNull();
+        verify(findAllAfterStmtSpec).param("afterId", afterId);
     }
 
     @Test
     void shouldReturnTheNumberOfRowsInTodoTable() {
         // Given
-        String sqlCount = "SELECT COUNT(*) FROM todo_item";
+        String sqlCount = "FROM todo_item_count";
         JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
         JdbcClient.ResultQuerySpec resultQuerySpec = Mockito.mock(JdbcClient.ResultQuerySpec.class);
         when(jdbcClient.sql(contains(sqlCount))).thenReturn(statementSpec);
@@ -100,13 +272,13 @@ class TodoRepositoryTest {
         Integer id = 5;
         LocalDate dueDate = LocalDate.of(2024, 5, 17);
         Todo todo = new Todo(id, "A todo", Priority.MEDIUM, dueDate,
-                false, LocalDateTime.now(), null);
+                false, LocalDateTime.now(), null, null, 1L);
 
         JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
         JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
         when(jdbcClient.sql(any(String.class))).thenReturn(statementSpec);
         when(statementSpec.param("id", id)).thenReturn(statementSpec);
-        when(statementSpec.query(Todo.class)).thenReturn(mappedQuerySpec);
+        when(statementSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
         when(mappedQuerySpec.optional()).thenReturn(Optional.of(todo));
 
         // When
@@ -128,7 +300,7 @@ class TodoRepositoryTest {
         JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
         when(jdbcClient.sql(contains(sqlFindById))).thenReturn(statementSpec);
         when(statementSpec.param("id", id)).thenReturn(statementSpec);
-        when(statementSpec.query(Todo.class)).thenReturn(mappedQuerySpec);
+        when(statementSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
         when(mappedQuerySpec.optional()).thenReturn(Optional.empty());
 
         // When
@@ -151,14 +323,14 @@ class TodoRepositoryTest {
                 .dueDate(dueDate)
                 .build();
         Todo createdTodo = new Todo(id, description, Priority.LOW, dueDate, false,
-                LocalDateTime.now(), null);
+                LocalDateTime.now(), null, null, 1L);
         JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
         JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
         when(jdbcClient.sql(any(String.class))).thenReturn(statementSpec);
         when(statementSpec.param("description", description)).thenReturn(statementSpec);
         when(statementSpec.param("priority", Priority.LOW)).thenReturn(statementSpec);
         when(statementSpec.param("dueDate", dueDate)).thenReturn(statementSpec);
-        when(statementSpec.query(Todo.class)).thenReturn(mappedQuerySpec);
+        when(statementSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
         when(mappedQuerySpec.single()).thenReturn(createdTodo);
 
         // When
@@ -174,42 +346,32 @@ class TodoRepositoryTest {
         // Given
         Integer id = 6;
         LocalDate dueDate = LocalDate.of(2024, 5, 17);
-        Todo originalTodo = new Todo(id, "Original Description", Priority.LOW,
-                dueDate, false, LocalDateTime.now(), null);
         Todo todoToBeUpdated = Todo.builder()
                 .id(id)
                 .description("A new description for Todo")
                 .build();
         Todo updatedTodo = new Todo(id, "A new description for Todo", Priority.LOW,
-                dueDate, false, LocalDateTime.now(), null);
-
-        String sqlFindById = "SELECT id, description, priority, due_date, completed, created_at, completed_at";
-        JdbcClient.StatementSpec findByIdStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
-        JdbcClient.MappedQuerySpec<Todo> findByIdMappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
-        when(jdbcClient.sql(contains(sqlFindById))).thenReturn(findByIdStmtSpec);
-        when(findByIdStmtSpec.param("id", id)).thenReturn(findByIdStmtSpec);
-        when(findByIdStmtSpec.query(Todo.class)).thenReturn(findByIdMappedQuerySpec);
-        when(findByIdMappedQuerySpec.optional()).thenReturn(Optional.of(originalTodo));
+                dueDate, false, LocalDateTime.now(), null, null, 1L);
 
         String sqlUpdateTodo = "UPDATE todo_item";
         JdbcClient.StatementSpec updateStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
         JdbcClient.MappedQuerySpec<Todo> updateMappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
         when(jdbcClient.sql(contains(sqlUpdateTodo))).thenReturn(updateStmtSpec);
-        when(updateStmtSpec.param("id", id)).thenReturn(updateStmtSpec);
         when(updateStmtSpec.param(any(String.class), any())).thenReturn(updateStmtSpec);
-        when(updateStmtSpec.query(Todo.class)).thenReturn(updateMappedQuerySpec);
+        when(updateStmtSpec.query(any(TodoRowMapper.class))).thenReturn(updateMappedQuerySpec);
         when(updateMappedQuerySpec.optional()).thenReturn(Optional.of(updatedTodo));
 
-        // When & Then
+        // When
         Todo result = todoRepository.update(todoToBeUpdated);
 
         // Then
         assertThat(result).isNotNull().isEqualTo(updatedTodo);
-        verify(jdbcClient).sql(contains(sqlFindById));
-        verify(jdbcClient).sql(contains(sqlUpdateTodo));
+        verify(jdbcClient).sql(contains("COALESCE(:description, description)"));
+        verify(updateStmtSpec).param("id", id);
+        verify(updateStmtSpec).param("priority", null);
+        verify(jdbcClient, never()).sql(contains("SELECT"));
     }
 
-
     @Test
     void shouldThrowNotFoundExceptionWhenUpdatingNonExistingTodo() {
         // Given
@@ -218,12 +380,12 @@ class TodoRepositoryTest {
                 .id(id)
                 .description("A new description for Todo")
                 .build();
-        String sqlFindById = "SELECT id, description, priority, due_date, completed, created_at, completed_at";
-        JdbcClient.StatementSpec findByIdStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        String sqlUpdateTodo = "UPDATE todo_item";
+        JdbcClient.StatementSpec updateStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
         JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
-        when(jdbcClient.sql(contains(sqlFindById))).thenReturn(findByIdStmtSpec);
-        when(findByIdStmtSpec.param("id", id)).thenReturn(findByIdStmtSpec);
-        when(findByIdStmtSpec.query(Todo.class)).thenReturn(mappedQuerySpec);
+        when(jdbcClient.sql(contains(sqlUpdateTodo))).thenReturn(updateStmtSpec);
+        when(updateStmtSpec.param(any(String.class), any())).thenReturn(updateStmtSpec);
+        when(updateStmtSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
         when(mappedQuerySpec.optional()).thenReturn(Optional.empty());
 
         // When & Then
@@ -232,7 +394,70 @@ class TodoRepositoryTest {
                 .hasMessage("Todo not found");
 
         // Then
-        verify(jdbcClient).sql(contains(sqlFindById));
+        verify(jdbcClient).sql(contains(sqlUpdateTodo));
+    }
+
+    @Test
+    void shouldThrowPreconditionFailedExceptionWhenUpdatingWithAStaleVersion() {
+        // Given
+        Integer id = 6;
+        Todo todo = Todo.builder()
+                .id(id)
+                .description("A new description for Todo")
+                .version(2L)
+                .build();
+        Todo currentTodo = new Todo(id, "Task A", Priority.LOW, null, false, LocalDateTime.now(), null, null, 3L);
+        JdbcClient.StatementSpec updateStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> updateMappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("UPDATE todo_item"))).thenReturn(updateStmtSpec);
+        when(updateStmtSpec.param(any(String.class), any())).thenReturn(updateStmtSpec);
+        when(updateStmtSpec.query(any(TodoRowMapper.class))).thenReturn(updateMappedQuerySpec);
+        when(updateMappedQuerySpec.optional()).thenReturn(Optional.empty());
+        JdbcClient.StatementSpec findStmtSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> findMappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("FROM todo_item\n WHERE id = :id"))).thenReturn(findStmtSpec);
+        when(findStmtSpec.param("id", id)).thenReturn(findStmtSpec);
+        when(findStmtSpec.query(any(TodoRowMapper.class))).thenReturn(findMappedQuerySpec);
+        when(findMappedQuerySpec.optional()).thenReturn(Optional.of(currentTodo));
+
+        // When & Then
+        assertThatThrownBy(() -> todoRepository.update(todo))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessage("Todo has been modified");
+        verify(updateStmtSpec).param("version", 2L);
+    }
+
+    @Test
+    void shouldDeleteTodoByIdAndVersion() {
+        // Given
+        Integer id = 5;
+        JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        when(jdbcClient.sql(contains("AND version = :version"))).thenReturn(statementSpec);
+        when(statementSpec.param(any(String.class), any())).thenReturn(statementSpec);
+        when(statementSpec.update()).thenReturn(1);
+
+        // When
+        todoRepository.deleteById(id, 4L);
+
+        // Then
+        verify(statementSpec).param("id", id);
+        verify(statementSpec).param("version", 4L);
+    }
+
+    @Test
+    void shouldReadTheChangeCount() {
+        // Given
+        JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Long> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("SELECT changes FROM todo_item_count"))).thenReturn(statementSpec);
+        when(statementSpec.query(Long.class)).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.single()).thenReturn(9L);
+
+        // When
+        long changeCount = todoRepository.changeCount();
+
+        // Then
+        assertThat(changeCount).isEqualTo(9L);
     }
 
     @Test
@@ -269,4 +494,75 @@ class TodoRepositoryTest {
         verify(jdbcClient).sql(any(String.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldCreateAllTodosInASingleStatement() {
+        // Given
+        List<Todo> todosToBeCreated = List.of(
+                Todo.builder().description("Task A").priority(Priority.LOW).build(),
+                Todo.builder().description("Task B").build());
+        List<Todo> createdTodos = List.of(
+                new Todo(18, "Task B", null, null, false, LocalDateTime.now(), null, null, 1L),
+                new Todo(17, "Task A", Priority.LOW, null, false, LocalDateTime.now(), null, null, 1L));
+        JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("(:description1, :priority1, :dueDate1)"))).thenReturn(statementSpec);
+        when(statementSpec.params(anyMap())).thenReturn(statementSpec);
+        when(statementSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(createdTodos);
+
+        // When
+        List<Todo> result = todoRepository.createAll(todosToBeCreated);
+
+        // Then
+        verify(jdbcClient).sql(contains("(:description0, :priority0, :dueDate0), (:description1, :priority1, :dueDate1)"));
+        assertThat(result).extracting(Todo::getId).containsExactly(17, 18);
+    }
+
+    @Test
+    void shouldNotRunAnyStatementWhenCreatingAnEmptyListOfTodos() {
+        // When
+        List<Todo> result = todoRepository.createAll(List.of());
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(jdbcClient, never()).sql(any(String.class));
+    }
+
+    @Test
+    void shouldReturnTheDeletedIdsWhenDeletingAllById() {
+        // Given
+        List<Integer> ids = List.of(1, 2, 99);
+        JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Integer> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("WHERE id IN (:ids)"))).thenReturn(statementSpec);
+        when(statementSpec.param("ids", ids)).thenReturn(statementSpec);
+        when(statementSpec.query(Integer.class)).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.list()).thenReturn(List.of(1, 2));
+
+        // When
+        List<Integer> result = todoRepository.deleteAllById(ids);
+
+        // Then
+        verify(jdbcClient).sql(contains("WHERE id IN (:ids)"));
+        assertThat(result).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldStreamAllTodosOrderedById() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        JdbcClient.StatementSpec statementSpec = Mockito.mock(JdbcClient.StatementSpec.class);
+        JdbcClient.MappedQuerySpec<Todo> mappedQuerySpec = Mockito.mock(JdbcClient.MappedQuerySpec.class);
+        when(jdbcClient.sql(contains("ORDER BY id"))).thenReturn(statementSpec);
+        when(statementSpec.query(any(TodoRowMapper.class))).thenReturn(mappedQuerySpec);
+        when(mappedQuerySpec.stream()).thenReturn(todoList.stream());
+
+        // When
+        try (Stream<Todo> result = todoRepository.streamAll()) {
+
+            // Then
+            assertThat(result).hasSameSizeAs(todoList);
+        }
+        verify(mappedQuerySpec).stream();
+    }
+}
@@ -0,0 +1,78 @@
+package dev.rgonzalez.demo.todo.repository;
+
+import dev.rgonzalez.demo.todo.model.Priority;
+import dev.rgonzalez.demo.todo.model.Todo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+class TodoRowMapperTest {
+    @Mock
+    private ResultSet resultSet;
+
+    private final TodoRowMapper todoRowMapper = new TodoRowMapper();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void shouldMapEveryColumnByIndex() throws SQLException {
+        // Given
+        LocalDate dueDate = LocalDate.of(2024, 5, 15);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 10, 0);
+        LocalDateTime completedAt = LocalDateTime.of(2024, 5, 2, 9, 30);
+        when(resultSet.getInt(1)).thenReturn(7);
+        when(resultSet.getString(2)).thenReturn("Task A");
+        when(resultSet.getString(3)).thenReturn("HIGH");
+        when(resultSet.getObject(4, LocalDate.class)).thenReturn(dueDate);
+        when(resultSet.getBoolean(5)).thenReturn(true);
+        when(resultSet.getObject(6, LocalDateTime.class)).thenReturn(createdAt);
+        when(resultSet.getObject(7, LocalDateTime.class)).thenReturn(completedAt);
+        when(resultSet.getObject(8, LocalDateTime.class)).thenReturn(completedAt);
+        when(resultSet.getLong(9)).thenReturn(3L);
+
+        // When
+        Todo todo = todoRowMapper.mapRow(resultSet, 0);
+
+        // Then
+        assertThat(todo.getId()).isEqualTo(7);
+        assertThat(todo.getDescription()).isEqualTo("Task A");
+        assertThat(todo.getPriority()).isEqualTo(Priority.HIGH);
+        assertThat(todo.getDueDate()).isEqualTo(dueDate);
+        assertThat(todo.getCompleted()).isTrue();
+        assertThat(todo.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(todo.getCompletedAt()).isEqualTo(completedAt);
+        assertThat(todo.getUpdatedAt()).isEqualTo(completedAt);
+        assertThat(todo.getVersion()).isEqualTo(3L);
+    }
+
+    @Test
+    void shouldMapNullableColumnsToNull() throws SQLException {
+        // Given
+        when(resultSet.getInt(1)).thenReturn(8);
+        when(resultSet.getString(2)).thenReturn("Task B");
+        when(resultSet.getString(3)).thenReturn(null);
+        when(resultSet.getLong(9)).thenReturn(1L);
+
+        // When
+        Todo todo = todoRowMapper.mapRow(resultSet, 0);
+
+        // Then
+        assertThat(todo.getPriority()).isNull();
+        assertThat(todo.getDueDate()).isNull();
+        assertThat(todo.getCompletedAt()).isNull();
+        assertThat(todo.getCompleted()).isFalse();
+    }
+
+}
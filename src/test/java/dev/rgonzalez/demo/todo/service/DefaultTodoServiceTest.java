@@ -1,9 +1,17 @@
 package dev.rgonzalez.demo.todo.service;
 
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.exceptions.BadRequestException;
+import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import dev.rgonzalez.demo.todo.model.BatchItemResult;
+import dev.rgonzalez.demo.todo.model.BatchResult;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
 import dev.rgonzalez.demo.todo.model.Todo;
+import dev.rgonzalez.demo.todo.model.TodoFilter;
 import dev.rgonzalez.demo.todo.repository.TodoRepository;
 import dev.rgonzalez.demo.todo.test.util.TodoTestFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,14 +19,24 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.CacheManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,12 +45,28 @@ class DefaultTodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private GroupCommitWriter groupCommitWriter;
+
+    @Mock
+    private AppProperties appProperties;
+
+    @Mock
+    private ObjectProvider<CacheManager> cacheManager;
+
     @InjectMocks
     private DefaultTodoService todoService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(appProperties.getBatchMaxSize()).thenReturn(10);
+        when(groupCommitWriter.execute(any())).thenAnswer(invocation ->
+                invocation.<Supplier<?>>getArgument(0).get());
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(groupCommitWriter).executeWithoutResult(any());
     }
 
     @Test
@@ -53,12 +87,69 @@ class DefaultTodoServiceTest {
         assertThat(result.getContent()).hasSameSizeAs(pagedResult.getContent());
     }
 
+    @Test
+    void shouldFetchAFilteredPageOfTodos() {
+        // Given
+        PageRequest pageRequest = PageRequest.of(0, 5);
+        TodoFilter filter = TodoFilter.of(true, Priority.LOW, null, null);
+        PagedResult<Todo> pagedResult = new PagedResult<>(TodoTestFactory.createTodoList(), 5, pageRequest);
+        when(todoRepository.findAll(filter, pageRequest)).thenReturn(pagedResult);
+
+        // When
+        PagedResult<Todo> result = todoService.findAll(filter, pageRequest);
+
+        // Then
+        assertThat(result).isEqualTo(pagedResult);
+        verify(todoRepository).findAll(filter, pageRequest);
+    }
+
+    @Test
+    void shouldSearchTodos() {
+        // Given
+        PageRequest pageRequest = PageRequest.of(0, 5);
+        PagedResult<Todo> pagedResult = new PagedResult<>(TodoTestFactory.createTodoList(), 5, pageRequest);
+        when(todoRepository.search("task", pageRequest)).thenReturn(pagedResult);
+
+        // When
+        PagedResult<Todo> result = todoService.search("task", pageRequest);
+
+        // Then
+        assertThat(result).isEqualTo(pagedResult);
+        verify(todoRepository).search("task", pageRequest);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenSearchingWithABlankQuery() {
+        // When & Then
+        assertThatThrownBy(() -> todoService.search(" ", PageRequest.firstPage()))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Search query is required.");
+        verify(todoRepository, never()).search(any(), any());
+    }
+
+    @Test
+    void shouldFetchAPageOfTodosAfterACursor() {
+        // Given
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(CursorPageRequest.encodeCursor(10), 5);
+        CursorPagedResult<Todo> cursorPagedResult = new CursorPagedResult<>(TodoTestFactory.createTodoList(),
+                CursorPageRequest.encodeCursor(15), cursorPageRequest);
+        when(todoRepository.findAll(any(CursorPageRequest.class)))
+                .thenReturn(cursorPagedResult);
+
+        // When
+        CursorPagedResult<Todo> result = todoService.findAll(cursorPageRequest);
+
+        // Then
+        assertThat(result).isNotNull().isEqualTo(cursorPagedResult);
+        verify(todoRepository).findAll(cursorPageRequest);
+    }
+
     @Test
     void shouldFetchTodoById() {
         // Given
         Integer id = 10;
         Todo todo = new Todo(id, "A task", Priority.MEDIUM, LocalDate.of(2024, 5, 17),
-                false, LocalDateTime.now(), null);
+                false, LocalDateTime.now(), null, null, 1L);
         when(todoRepository.findById(id)).thenReturn(Optional.of(todo));
 
         // When
@@ -81,7 +172,7 @@ class DefaultTodoServiceTest {
                 .dueDate(LocalDate.now())
                 .build();
         Todo expectedCreatedTodo = new Todo(5, todo.getDescription(), todo.getPriority(), todo.getDueDate(),
-                false, LocalDateTime.now(), null);
+                false, LocalDateTime.now(), null, null, 1L);
         when(todoRepository.create(todo)).thenReturn(expectedCreatedTodo);
 
         // When
@@ -104,7 +195,7 @@ class DefaultTodoServiceTest {
                 .build();
 
         Todo expectedUpdatedTodo = new Todo(id, todo.getDescription(), Priority.MEDIUM, LocalDate.now(),
-                todo.isCompleted(), LocalDateTime.now(), LocalDateTime.now());
+                todo.getCompleted(), LocalDateTime.now(), LocalDateTime.now(), null, 1L);
         when(todoRepository.update(todo)).thenReturn(expectedUpdatedTodo);
 
         // When
@@ -114,7 +205,7 @@ class DefaultTodoServiceTest {
         assertThat(updatedTodo).isNotNull();
         assertThat(updatedTodo.getId()).isEqualTo(id);
         assertThat(updatedTodo.getDescription()).isEqualTo(todo.getDescription());
-        assertThat(updatedTodo.isCompleted()).isEqualTo(todo.isCompleted());
+        assertThat(updatedTodo.getCompleted()).isEqualTo(todo.getCompleted());
         verify(todoRepository).update(todo);
     }
 
@@ -130,4 +221,134 @@ class DefaultTodoServiceTest {
         verify(todoRepository).deleteById(id);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldDeleteAnExistingTodoWithTheExpectedVersion() {
+        // Given
+        Integer id = 14;
+
+        // When
+        todoService.deleteById(id, 3L);
+
+        // Then
+        verify(todoRepository).deleteById(id, 3L);
+    }
+
+    @Test
+    void shouldReturnTheTodoChangeCount() {
+        // Given
+        when(todoRepository.changeCount()).thenReturn(12L);
+
+        // When
+        long changeCount = todoService.changeCount();
+
+        // Then
+        assertThat(changeCount).isEqualTo(12L);
+    }
+
+    @Test
+    void shouldCreateAllValidTodosAndReportTheInvalidOnes() {
+        // Given
+        Todo validTodo = Todo.builder().description("Task A").build();
+        Todo invalidTodo = Todo.builder().description("").build();
+        Todo createdTodo = new Todo(21, "Task A", null, null, false, LocalDateTime.now(), null, null, 1L);
+        when(todoRepository.createAll(List.of(validTodo))).thenReturn(List.of(createdTodo));
+
+        // When
+        BatchResult<Todo> result = todoService.createAll(List.of(invalidTodo, validTodo));
+
+        // Then
+        verify(todoRepository).createAll(List.of(validTodo));
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchItemResult::getIndex).containsExactly(0, 1);
+        assertThat(result.getResults().get(0).getError()).isEqualTo("Description is required.");
+        assertThat(result.getResults().get(1).getResult()).isEqualTo(createdTodo);
+    }
+
+    @Test
+    void shouldUpdateAllTodosAndReportTheMissingOnes() {
+        // Given
+        Todo existingTodo = Todo.builder().id(1).description("Task A").build();
+        Todo missingTodo = Todo.builder().id(99).description("Task B").build();
+        Todo updatedTodo = new Todo(1, "Task A", null, null, false, LocalDateTime.now(), null, null, 1L);
+        when(todoRepository.update(existingTodo)).thenReturn(updatedTodo);
+        when(todoRepository.update(missingTodo)).thenThrow(new NotFoundException("Todo not found"));
+
+        // When
+        BatchResult<Todo> result = todoService.updateAll(List.of(existingTodo, missingTodo));
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getResult()).isEqualTo(updatedTodo);
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Todo not found");
+    }
+
+    @Test
+    void shouldDeleteAllTodosAndReportTheMissingOnes() {
+        // Given
+        List<Integer> ids = List.of(1, 99, 2);
+        when(todoRepository.deleteAllById(ids)).thenReturn(List.of(1, 2));
+
+        // When
+        BatchResult<Integer> result = todoService.deleteAllById(ids);
+
+        // Then
+        verify(todoRepository).deleteAllById(ids);
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchItemResult::isSuccess).containsExactly(true, false, true);
+        assertThat(result.getResults().get(1).getError()).isEqualTo("Todo not found");
+    }
+
+    @Test
+    void shouldReportARepeatedIdOnceWhenDeletingAll() {
+        // Given
+        List<Integer> ids = List.of(1, 99, 1, 2);
+        when(todoRepository.deleteAllById(List.of(1, 99, 2))).thenReturn(List.of(1, 2));
+
+        // When
+        BatchResult<Integer> result = todoService.deleteAllById(ids);
+
+        // Then
+        verify(todoRepository).deleteAllById(List.of(1, 99, 2));
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults()).extracting(BatchItemResult::getIndex).containsExactly(0, 1, 3);
+    }
+
+    @Test
+    void shouldRejectBatchesLargerThanTheMaximumSize() {
+        // Given
+        List<Integer> ids = IntStream.rangeClosed(1, 11).boxed().toList();
+        List<Todo> todos = ids.stream()
+                .map(id -> Todo.builder().id(id).description("Task " + id).build())
+                .toList();
+
+        // When & Then
+        assertThatThrownBy(() -> todoService.createAll(todos))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Batch cannot contain more than 10 items.");
+        assertThatThrownBy(() -> todoService.updateAll(todos))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> todoService.deleteAllById(ids))
+                .isInstanceOf(BadRequestException.class);
+        verify(groupCommitWriter, never()).execute(any());
+    }
+
+    @Test
+    void shouldExportAllTodosAndCloseTheStream() {
+        // Given
+        List<Todo> todoList = TodoTestFactory.createTodoList();
+        AtomicBoolean closed = new AtomicBoolean(false);
+        when(todoRepository.streamAll()).thenReturn(todoList.stream().onClose(() -> closed.set(true)));
+        List<Todo> exported = new ArrayList<>();
+
+        // When
+        todoService.exportAll(exported::add);
+
+        // Then
+        assertThat(exported).containsExactlyElementsOf(todoList);
+        assertThat(closed).isTrue();
+    }
+}
@@ -0,0 +1,139 @@
+package dev.rgonzalez.demo.todo.service;
+
+import dev.rgonzalez.demo.todo.AppProperties;
+import dev.rgonzalez.demo.todo.exceptions.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupCommitWriterTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Mock
+    private AppProperties appProperties;
+
+    @InjectMocks
+    private GroupCommitWriter groupCommitWriter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(appProperties.getWriterQueueCapacity()).thenReturn(100);
+        when(appProperties.getWriterGroupMaxSize()).thenReturn(10);
+        when(appProperties.getWriterGroupMaxDelayMillis()).thenReturn(50L);
+        when(appProperties.getTerminationGracePeriodSeconds()).thenReturn(1L);
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        groupCommitWriter.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommitWriter.shutdown();
+    }
+
+    @Test
+    void shouldReturnTheResultOfTheMutationAfterCommitting() {
+        // When
+        Integer result = groupCommitWriter.execute(() -> 42);
+
+        // Then
+        assertThat(result).isEqualTo(42);
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void shouldCommitConcurrentMutationsTogether() throws Exception {
+        // Given
+        int writers = 10;
+        CountDownLatch ready = new CountDownLatch(writers);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // When
+            List<Future<Integer>> futures = IntStream.range(0, writers)
+                    .mapToObj(i -> executor.submit(() -> {
+                        ready.countDown();
+                        ready.await();
+                        return groupCommitWriter.execute(() -> i);
+                    }))
+                    .toList();
+
+            // Then
+            for (int i = 0; i < writers; i++) {
+                assertThat(futures.get(i).get()).isEqualTo(i);
+            }
+        }
+        verify(transactionManager, atMost(writers - 1)).commit(transactionStatus);
+    }
+
+    @Test
+    void shouldRollbackOnlyTheFailedMutation() {
+        // Given
+        Object savepoint = new Object();
+        when(transactionStatus.createSavepoint()).thenReturn(savepoint);
+
+        // When & Then
+        assertThatThrownBy(() -> groupCommitWriter.execute(() -> {
+            throw new NotFoundException("Todo not found");
+        })).isInstanceOf(NotFoundException.class);
+        verify(transactionStatus).rollbackToSavepoint(savepoint);
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void shouldFailTheMutationWhenTheCommitFails() {
+        // Given
+        doThrow(new TransactionSystemException("database is locked"))
+                .when(transactionManager).commit(transactionStatus);
+
+        // When & Then
+        assertThatThrownBy(() -> groupCommitWriter.execute(() -> 42))
+                .isInstanceOf(TransactionSystemException.class);
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldFailTheCallerAndKeepWritingWhenAMutationThrowsAnError() {
+        // When & Then
+        assertThatThrownBy(() -> groupCommitWriter.execute(() -> {
+            throw new StackOverflowError();
+        })).isInstanceOf(StackOverflowError.class);
+        assertThat(groupCommitWriter.execute(() -> 42)).isEqualTo(42);
+    }
+
+    @Test
+    void shouldRejectMutationsAfterShutdown() {
+        // Given
+        groupCommitWriter.shutdown();
+
+        // When & Then
+        assertThatThrownBy(() -> groupCommitWriter.execute(() -> 42))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
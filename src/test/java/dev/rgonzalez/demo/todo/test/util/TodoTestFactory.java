@@ -1,6 +1,8 @@
 package dev.rgonzalez.demo.todo.test.util;
 
 import dev.rgonzalez.demo.todo.api.domain.TodoDTO;
+import dev.rgonzalez.demo.todo.model.CursorPageRequest;
+import dev.rgonzalez.demo.todo.model.CursorPagedResult;
 import dev.rgonzalez.demo.todo.model.PageRequest;
 import dev.rgonzalez.demo.todo.model.PagedResult;
 import dev.rgonzalez.demo.todo.model.Priority;
@@ -15,15 +17,15 @@ public class TodoTestFactory {
     public static List<Todo> createTodoList() {
         return List.of(
                 new Todo(1, "Task A", Priority.MEDIUM, LocalDate.of(2024, 5, 15),
-                        false, LocalDateTime.now(), null),
+                        false, LocalDateTime.now(), null, null, 1L),
                 new Todo(2, "Task B", Priority.HIGH, LocalDate.of(2024, 5, 16),
-                        true, LocalDateTime.now(), LocalDateTime.now()),
+                        true, LocalDateTime.now(), LocalDateTime.now(), null, 1L),
                 new Todo(3, "Task C", Priority.LOW, null,
-                        false, LocalDateTime.now(), null),
+                        false, LocalDateTime.now(), null, null, 1L),
                 new Todo(4, "Task D", Priority.MEDIUM, LocalDate.of(2024, 5, 17),
-                        true, LocalDateTime.now(), LocalDateTime.now()),
+                        true, LocalDateTime.now(), LocalDateTime.now(), null, 1L),
                 new Todo(5, "Task E", Priority.LOW, LocalDate.of(2024, 5, 18),
-                        true, LocalDateTime.now(), LocalDateTime.now())
+                        true, LocalDateTime.now(), LocalDateTime.now(), null, 1L)
         );
     }
 
@@ -32,6 +34,11 @@ public class TodoTestFactory {
         return new PagedResult<>(createTodoList(), totalElements, pageRequest);
     }
 
+    public static CursorPagedResult<Todo> createCursorPagedResultOfTodos(int size, String nextCursor) {
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(null, size);
+        return new CursorPagedResult<>(createTodoList(), nextCursor, cursorPageRequest);
+    }
+
     public static List<TodoDTO> createTodoDTOList() {
         return List.of(
                 new TodoDTO(1, "Task A", Priority.MEDIUM, LocalDate.of(2024, 5, 15),
@@ -52,4 +59,9 @@ public class TodoTestFactory {
         return new PagedResult<>(createTodoDTOList(), totalElements, pageRequest);
     }
 
+    public static CursorPagedResult<TodoDTO> createCursorPagedResultOfTodoDTOs(int size, String nextCursor) {
+        CursorPageRequest cursorPageRequest = CursorPageRequest.of(null, size);
+        return new CursorPagedResult<>(createTodoDTOList(), nextCursor, cursorPageRequest);
+    }
+
 }